@@ -0,0 +1,85 @@
+package com.mini.soccer.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "booking")
+public class BookingProperties {
+
+    /**
+     * Granularity of bookable slots; booking start and end times must align to it.
+     */
+    private int slotMinutes = 15;
+
+    private final Locking locking = new Locking();
+
+    private final Codes codes = new Codes();
+
+    private final Holds holds = new Holds();
+
+    private final Waitlist waitlist = new Waitlist();
+
+    @Getter
+    @Setter
+    public static class Locking {
+        /**
+         * Number of lock stripes shared by all fields; rounded up to a power of two.
+         */
+        private int stripes = 64;
+
+        /**
+         * How long a booking request waits for its field's stripe before giving up.
+         */
+        private Duration waitTimeout = Duration.ofSeconds(5);
+    }
+
+    @Getter
+    @Setter
+    public static class Codes {
+        /**
+         * Booking/transaction codes reserved per database round trip on each node.
+         */
+        private int blockSize = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Holds {
+        /**
+         * Extra time a VNPay checkout hold lasts beyond the payment link expiry, for late callbacks.
+         */
+        private Duration grace = Duration.ofMinutes(2);
+
+        /**
+         * Expired holds released per transaction.
+         */
+        private int releaseBatchSize = 500;
+
+        /**
+         * How often expired holds are also looked up in the database, to release holds
+         * whose node stopped before releasing them.
+         */
+        private Duration databaseSweepInterval = Duration.ofMinutes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Waitlist {
+        /**
+         * How long a released slot stays held for the waitlisted user it was offered to.
+         */
+        private Duration offerTtl = Duration.ofMinutes(10);
+
+        /**
+         * How often entries created on other nodes are loaded into the waitlist index.
+         */
+        private Duration refreshInterval = Duration.ofSeconds(30);
+    }
+}
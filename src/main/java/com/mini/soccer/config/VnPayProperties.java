@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Component
@@ -30,9 +32,30 @@ public class VnPayProperties {
      */
     private String returnUrl;
 
+    /**
+     * Minutes until a payment link expires; the booking's slot is held for as long.
+     */
+    private int expireMinutes = 15;
+
     private String version;
     private String command;
     private String currencyCode;
     private String locale;
     private String orderType;
+
+    private final Sweeper sweeper = new Sweeper();
+
+    @Getter
+    @Setter
+    public static class Sweeper {
+        /**
+         * Delay between runs of the expired pending payment sweeper.
+         */
+        private Duration interval = Duration.ofMinutes(1);
+
+        /**
+         * Payments expired per transaction; larger chunks hold row locks for longer.
+         */
+        private int chunkSize = 500;
+    }
 }
@@ -4,12 +4,19 @@ import com.mini.soccer.dto.request.UpdatePaymentStatusRequest;
 import com.mini.soccer.dto.response.AdminBookingDetailResponse;
 import com.mini.soccer.dto.response.AdminBookingSummaryResponse;
 import com.mini.soccer.dto.response.ApiResponse;
+import com.mini.soccer.dto.response.CursorPageResponse;
 import com.mini.soccer.dto.response.PaymentResponse;
+import com.mini.soccer.enums.ExportFormat;
+import com.mini.soccer.service.booking.IBookingExportService;
 import com.mini.soccer.service.booking.IBookingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,6 +26,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("${api.prefix}/admin/bookings")
@@ -26,6 +36,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminBookingController {
 
     private final IBookingService bookingService;
+    private final IBookingExportService bookingExportService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<Page<AdminBookingSummaryResponse>>> getBookings(
@@ -35,6 +46,35 @@ public class AdminBookingController {
         return ResponseEntity.ok(ApiResponse.success(bookings, "Retrieved bookings"));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPageResponse<AdminBookingSummaryResponse>>> scrollBookings(
+            @RequestParam(name = "bookingCode", required = false) String bookingCode,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        CursorPageResponse<AdminBookingSummaryResponse> bookings =
+                bookingService.scrollAdminBookings(bookingCode, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(bookings, "Retrieved bookings"));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "format", defaultValue = "CSV") ExportFormat format) {
+        StreamingResponseBody body = bookingExportService.exportBookings(from, to, format);
+        String extension = format == ExportFormat.CSV ? "csv" : "ndjson";
+        MediaType contentType = format == ExportFormat.CSV
+                ? MediaType.parseMediaType("text/csv")
+                : MediaType.parseMediaType("application/x-ndjson");
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("bookings-" + from + "-" + to + "." + extension)
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @GetMapping("/{bookingId}")
     public ResponseEntity<ApiResponse<AdminBookingDetailResponse>> getBookingDetail(
             @PathVariable Long bookingId) {
@@ -0,0 +1,41 @@
+package com.mini.soccer.controller;
+
+import com.mini.soccer.dto.response.ApiResponse;
+import com.mini.soccer.dto.response.FieldRollupResponse;
+import com.mini.soccer.service.dashboard.IDashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("${api.prefix}/admin/dashboard")
+@RequiredArgsConstructor
+public class AdminDashboardController {
+
+    private final IDashboardService dashboardService;
+
+    @GetMapping("/fields")
+    public ResponseEntity<ApiResponse<List<FieldRollupResponse>>> getFieldTotals(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        List<FieldRollupResponse> totals = dashboardService.getFieldTotals(from, to);
+        return ResponseEntity.ok(ApiResponse.success(totals, "Retrieved field totals"));
+    }
+
+    @GetMapping("/fields/{fieldId}/daily")
+    public ResponseEntity<ApiResponse<List<FieldRollupResponse>>> getFieldDaily(
+            @PathVariable Long fieldId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        List<FieldRollupResponse> daily = dashboardService.getFieldDaily(fieldId, from, to);
+        return ResponseEntity.ok(ApiResponse.success(daily, "Retrieved daily field figures"));
+    }
+}
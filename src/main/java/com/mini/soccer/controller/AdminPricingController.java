@@ -0,0 +1,75 @@
+package com.mini.soccer.controller;
+
+import com.mini.soccer.dto.request.HolidayRequest;
+import com.mini.soccer.dto.request.PricingRuleRequest;
+import com.mini.soccer.dto.response.ApiResponse;
+import com.mini.soccer.dto.response.HolidayResponse;
+import com.mini.soccer.dto.response.PricingRuleResponse;
+import com.mini.soccer.service.pricing.IPricingService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("${api.prefix}/admin/pricing")
+@RequiredArgsConstructor
+public class AdminPricingController {
+
+    private final IPricingService pricingService;
+
+    @GetMapping("/rules")
+    public ResponseEntity<ApiResponse<List<PricingRuleResponse>>> getRules() {
+        return ResponseEntity.ok(ApiResponse.success(pricingService.getRules(), "Retrieved pricing rules"));
+    }
+
+    @PostMapping("/rules")
+    public ResponseEntity<ApiResponse<PricingRuleResponse>> createRule(@Valid @RequestBody PricingRuleRequest request) {
+        PricingRuleResponse rule = pricingService.createRule(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(rule, "Pricing rule created successfully"));
+    }
+
+    @PutMapping("/rules/{pricingRuleId}")
+    public ResponseEntity<ApiResponse<PricingRuleResponse>> updateRule(@PathVariable Long pricingRuleId,
+                                                                       @Valid @RequestBody PricingRuleRequest request) {
+        PricingRuleResponse rule = pricingService.updateRule(pricingRuleId, request);
+        return ResponseEntity.ok(ApiResponse.success(rule, "Pricing rule updated successfully"));
+    }
+
+    @DeleteMapping("/rules/{pricingRuleId}")
+    public ResponseEntity<ApiResponse<Void>> deleteRule(@PathVariable Long pricingRuleId) {
+        pricingService.deleteRule(pricingRuleId);
+        return ResponseEntity.ok(ApiResponse.success(null, "Pricing rule deleted successfully"));
+    }
+
+    @GetMapping("/holidays")
+    public ResponseEntity<ApiResponse<List<HolidayResponse>>> getHolidays() {
+        return ResponseEntity.ok(ApiResponse.success(pricingService.getHolidays(), "Retrieved holidays"));
+    }
+
+    @PutMapping("/holidays")
+    public ResponseEntity<ApiResponse<HolidayResponse>> saveHoliday(@Valid @RequestBody HolidayRequest request) {
+        HolidayResponse holiday = pricingService.saveHoliday(request);
+        return ResponseEntity.ok(ApiResponse.success(holiday, "Holiday saved successfully"));
+    }
+
+    @DeleteMapping("/holidays/{date}")
+    public ResponseEntity<ApiResponse<Void>> deleteHoliday(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        pricingService.deleteHoliday(date);
+        return ResponseEntity.ok(ApiResponse.success(null, "Holiday deleted successfully"));
+    }
+}
@@ -0,0 +1,24 @@
+package com.mini.soccer.controller;
+
+import com.mini.soccer.dto.response.ApiResponse;
+import com.mini.soccer.service.user.IUserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("${api.prefix}/admin/users")
+@RequiredArgsConstructor
+public class AdminUserController {
+
+    private final IUserService userService;
+
+    @PostMapping("/{userId}/revoke-tokens")
+    public ResponseEntity<ApiResponse<Void>> revokeTokens(@PathVariable Long userId) {
+        userService.revokeTokens(userId);
+        return ResponseEntity.ok(ApiResponse.success(null, "User tokens revoked"));
+    }
+}
@@ -4,11 +4,14 @@ import com.mini.soccer.dto.request.LoginRequest;
 import com.mini.soccer.dto.request.RegisterRequest;
 import com.mini.soccer.dto.response.ApiResponse;
 import com.mini.soccer.dto.response.LoginResponse;
-import com.mini.soccer.enums.UserRole;
-import com.mini.soccer.model.User;
-import com.mini.soccer.repository.UserRepository;
 import com.mini.soccer.security.jwt.JwtUtils;
+import com.mini.soccer.security.jwt.RevokedTokens;
+import com.mini.soccer.security.jwt.TokenVersions;
+import com.mini.soccer.security.login.LoginGuard;
 import com.mini.soccer.security.userdetails.AppUserDetails;
+import com.mini.soccer.service.user.IUserService;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -17,14 +20,15 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("${api.prefix}/auth")
 @RequiredArgsConstructor
@@ -32,18 +36,39 @@ public class AuthController {
 
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
-    private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final TokenVersions tokenVersions;
+    private final RevokedTokens revokedTokens;
+    private final LoginGuard loginGuard;
+    private final IUserService userService;
 
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest request) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getPhoneNumber(), request.getPassword())
-        );
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+    public CompletableFuture<ResponseEntity<ApiResponse<LoginResponse>>> login(@Valid @RequestBody LoginRequest request,
+                                                                              HttpServletRequest httpRequest) {
+        return loginGuard.submit(request.getPhoneNumber(), httpRequest.getRemoteAddr(),
+                        () -> authenticationManager.authenticate(
+                                new UsernamePasswordAuthenticationToken(request.getPhoneNumber(), request.getPassword())))
+                .thenApply(this::loginResponse);
+    }
+
+    @PostMapping("/register")
+    public ResponseEntity<ApiResponse<Void>> register(@Valid @RequestBody RegisterRequest request) {
+        userService.register(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(null, "User registered successfully"));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(HttpServletRequest httpRequest) {
+        Claims claims = Optional.ofNullable(jwtUtils.bearerToken(httpRequest))
+                .flatMap(jwtUtils::verify)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Missing or invalid access token"));
+        revokedTokens.revoke(claims.getId(), claims.getExpiration());
+        return ResponseEntity.ok(ApiResponse.success(null, "Logged out"));
+    }
 
+    private ResponseEntity<ApiResponse<LoginResponse>> loginResponse(Authentication authentication) {
         AppUserDetails principal = (AppUserDetails) authentication.getPrincipal();
-        String token = jwtUtils.generateAccessToken(authentication);
+        String token = jwtUtils.generateAccessToken(authentication, tokenVersions.current(principal.getUserId()));
         String role = principal.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .findFirst()
@@ -60,23 +85,4 @@ public class AuthController {
 
         return ResponseEntity.ok(ApiResponse.success(response, "Login successful"));
     }
-
-    @PostMapping("/register")
-    public ResponseEntity<ApiResponse<Void>> register(@Valid @RequestBody RegisterRequest request) {
-        boolean phoneExists = userRepository.findByPhoneNumber(request.getPhoneNumber()).isPresent();
-        if (phoneExists) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Phone number already registered");
-        }
-
-        User user = User.builder()
-                .fullName(request.getFullName())
-                .phoneNumber(request.getPhoneNumber())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .role(UserRole.USER)
-                .build();
-
-        userRepository.save(user);
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.success(null, "User registered successfully"));
-    }
 }
@@ -1,37 +1,83 @@
 package com.mini.soccer.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mini.soccer.dto.request.BookingRequest;
 import com.mini.soccer.dto.request.CancelBookingRequest;
 import com.mini.soccer.dto.request.PaymentRequest;
+import com.mini.soccer.dto.request.SeriesBookingRequest;
 import com.mini.soccer.dto.response.ApiResponse;
 import com.mini.soccer.dto.response.BookingResponse;
+import com.mini.soccer.dto.response.CursorPageResponse;
 import com.mini.soccer.dto.response.PaymentResponse;
+import com.mini.soccer.dto.response.SeriesBookingResponse;
+import com.mini.soccer.enums.BookingScope;
 import com.mini.soccer.service.booking.IBookingService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("${api.prefix}/bookings")
 @RequiredArgsConstructor
 public class BookingController {
 
+    private static final int STREAM_PAGE_SIZE = 500;
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final IBookingService bookingService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/me")
-    public ResponseEntity<ApiResponse<List<BookingResponse>>> getMyBookings() {
-        List<BookingResponse> bookings = bookingService.getCurrentUserBookings();
-        return ResponseEntity.ok(ApiResponse.success(bookings, "Retrieved bookings successfully"));
+    public ResponseEntity<ApiResponse<CursorPageResponse<BookingResponse>>> getMyBookings(
+            @RequestParam(name = "scope", defaultValue = "ALL") BookingScope scope,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            WebRequest webRequest) {
+        String eTag = bookingService.getCurrentUserBookingsETag(scope);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        CursorPageResponse<BookingResponse> bookings = bookingService.getCurrentUserBookings(scope, cursor, size);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(bookings, "Retrieved bookings successfully"));
+    }
+
+    /**
+     * Writes the caller's bookings as newline-delimited JSON, one keyset page at a
+     * time, so neither side has to hold the whole history in memory.
+     */
+    @GetMapping("/me/stream")
+    public ResponseEntity<StreamingResponseBody> streamMyBookings(
+            @RequestParam(name = "scope", defaultValue = "ALL") BookingScope scope) {
+        StreamingResponseBody body = out -> {
+            String cursor = null;
+            CursorPageResponse<BookingResponse> page;
+            do {
+                page = bookingService.getCurrentUserBookings(scope, cursor, STREAM_PAGE_SIZE);
+                for (BookingResponse booking : page.getItems()) {
+                    out.write(objectMapper.writeValueAsBytes(booking));
+                    out.write('\n');
+                }
+                out.flush();
+                cursor = page.getNextCursor();
+            } while (page.isHasNext());
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
     }
 
     @PostMapping("/create")
@@ -41,6 +87,14 @@ public class BookingController {
                 .body(ApiResponse.success(booking, "Booking created successfully"));
     }
 
+    @PostMapping("/series")
+    public ResponseEntity<ApiResponse<SeriesBookingResponse>> createSeriesBooking(
+            @Valid @RequestBody SeriesBookingRequest request) {
+        SeriesBookingResponse series = bookingService.createSeriesBooking(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(series, "Series booking created successfully"));
+    }
+
     @PostMapping("/{bookingId}/cancel")
     public ResponseEntity<ApiResponse<BookingResponse>> cancelBooking(@PathVariable Long bookingId,
                                                                       @Valid @RequestBody CancelBookingRequest request) {
@@ -2,14 +2,21 @@ package com.mini.soccer.controller;
 
 import com.mini.soccer.dto.request.FieldRequest;
 import com.mini.soccer.dto.response.ApiResponse;
+import com.mini.soccer.dto.response.FieldAvailabilityResponse;
 import com.mini.soccer.dto.response.FieldResponse;
+import com.mini.soccer.dto.response.PriceQuoteResponse;
+import com.mini.soccer.service.field.FieldListingCache;
+import com.mini.soccer.service.field.IFieldAvailabilityService;
 import com.mini.soccer.service.field.IFieldService;
+import com.mini.soccer.service.pricing.IPricingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,7 +25,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping("${api.prefix}/fields")
@@ -26,6 +38,9 @@ import org.springframework.web.bind.annotation.RestController;
 public class FieldController {
 
     private final IFieldService fieldService;
+    private final IFieldAvailabilityService fieldAvailabilityService;
+    private final IPricingService pricingService;
+    private final FieldListingCache fieldListingCache;
 
     @PostMapping
     public ResponseEntity<ApiResponse<FieldResponse>> createField(
@@ -50,9 +65,45 @@ public class FieldController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<FieldResponse>>> getFields(
-            @PageableDefault(size = 10) Pageable pageable) {
-        Page<FieldResponse> fields = fieldService.getFields(pageable);
-        return ResponseEntity.ok(ApiResponse.success(fields, "Retrieved fields"));
+    public ResponseEntity<byte[]> getFields(
+            @PageableDefault(size = 10) Pageable pageable,
+            WebRequest webRequest) {
+        String eTag = fieldService.getFieldsETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        // Pre-serialized ApiResponse<Page<FieldResponse>>, rebuilt once per catalog change.
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(fieldListingCache.get(pageable));
+    }
+
+    @GetMapping("/{fieldId}/availability")
+    public ResponseEntity<ApiResponse<FieldAvailabilityResponse>> getAvailability(
+            @PathVariable Long fieldId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        FieldAvailabilityResponse availability = fieldAvailabilityService.getAvailability(fieldId, from, to);
+        return ResponseEntity.ok(ApiResponse.success(availability, "Retrieved field availability"));
+    }
+
+    @GetMapping("/availability")
+    public ResponseEntity<ApiResponse<List<FieldAvailabilityResponse>>> getAvailability(
+            @RequestParam List<Long> fieldIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        List<FieldAvailabilityResponse> availability = fieldAvailabilityService.getAvailability(fieldIds, from, to);
+        return ResponseEntity.ok(ApiResponse.success(availability, "Retrieved field availability"));
+    }
+
+    @GetMapping("/{fieldId}/quote")
+    public ResponseEntity<ApiResponse<PriceQuoteResponse>> getQuote(
+            @PathVariable Long fieldId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+        PriceQuoteResponse quote = pricingService.getQuote(fieldId, start, end);
+        return ResponseEntity.ok(ApiResponse.success(quote, "Retrieved price quote"));
     }
 }
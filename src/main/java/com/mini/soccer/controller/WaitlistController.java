@@ -0,0 +1,46 @@
+package com.mini.soccer.controller;
+
+import com.mini.soccer.dto.request.WaitlistRequest;
+import com.mini.soccer.dto.response.ApiResponse;
+import com.mini.soccer.dto.response.WaitlistEntryResponse;
+import com.mini.soccer.service.waitlist.IWaitlistService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("${api.prefix}/waitlist")
+@RequiredArgsConstructor
+public class WaitlistController {
+
+    private final IWaitlistService waitlistService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<WaitlistEntryResponse>> joinWaitlist(@Valid @RequestBody WaitlistRequest request) {
+        WaitlistEntryResponse entry = waitlistService.joinWaitlist(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(entry, "Joined waitlist successfully"));
+    }
+
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse<List<WaitlistEntryResponse>>> getMyEntries() {
+        List<WaitlistEntryResponse> entries = waitlistService.getCurrentUserEntries();
+        return ResponseEntity.ok(ApiResponse.success(entries, "Retrieved waitlist entries successfully"));
+    }
+
+    @DeleteMapping("/{waitlistEntryId}")
+    public ResponseEntity<ApiResponse<WaitlistEntryResponse>> withdraw(@PathVariable Long waitlistEntryId) {
+        WaitlistEntryResponse entry = waitlistService.withdraw(waitlistEntryId);
+        return ResponseEntity.ok(ApiResponse.success(entry, "Left waitlist successfully"));
+    }
+}
@@ -1,5 +1,6 @@
 package com.mini.soccer.dto.request;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -15,6 +16,7 @@ public class FieldRequest {
 
     @NotNull
     @Positive
+    @Digits(integer = 8, fraction = 2)
     private BigDecimal pricePerHour;
 
     private String description;
@@ -2,6 +2,7 @@ package com.mini.soccer.dto.request;
 
 import com.mini.soccer.enums.PaymentMethod;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 
@@ -11,6 +12,7 @@ import java.math.BigDecimal;
 public class PaymentRequest {
 
     @DecimalMin(value = "0.0", inclusive = false, message = "Amount must be greater than 0")
+    @Digits(integer = 8, fraction = 2, message = "Amount must have at most 8 integer digits and 2 decimals")
     private BigDecimal amount;
 
     private PaymentMethod paymentMethod;
@@ -0,0 +1,44 @@
+package com.mini.soccer.dto.request;
+
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Set;
+
+@Data
+public class PricingRuleRequest {
+
+    /**
+     * Field the rule applies to; leave empty for every field.
+     */
+    private Long fieldId;
+
+    @NotBlank
+    private String name;
+
+    private Set<DayOfWeek> daysOfWeek;
+
+    private boolean holidays;
+
+    @NotNull
+    private LocalTime startTime;
+
+    /**
+     * Exclusive; 00:00 means the end of the day.
+     */
+    @NotNull
+    private LocalTime endTime;
+
+    @NotNull
+    @Positive
+    @Digits(integer = 8, fraction = 2)
+    private BigDecimal pricePerHour;
+
+    private int priority;
+}
@@ -0,0 +1,39 @@
+package com.mini.soccer.dto.request;
+
+import com.mini.soccer.enums.RecurrenceFrequency;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class SeriesBookingRequest {
+
+    @NotNull
+    private Long fieldId;
+
+    // Time range of the first occurrence; later occurrences repeat it.
+    @NotNull
+    @FutureOrPresent
+    private LocalDateTime startTime;
+
+    @NotNull
+    @Future
+    private LocalDateTime endTime;
+
+    @NotNull
+    private RecurrenceFrequency frequency;
+
+    @Min(value = 1, message = "Interval must be at least 1")
+    @Max(value = 12, message = "Interval must be at most 12")
+    private int interval = 1;
+
+    @NotNull
+    @Min(value = 2, message = "A series needs at least 2 occurrences")
+    @Max(value = 52, message = "A series can have at most 52 occurrences")
+    private Integer occurrences;
+}
@@ -0,0 +1,22 @@
+package com.mini.soccer.dto.request;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class WaitlistRequest {
+
+    @NotNull
+    private Long fieldId;
+
+    @NotNull
+    @Future
+    private LocalDateTime startTime;
+
+    @NotNull
+    @Future
+    private LocalDateTime endTime;
+}
@@ -1,9 +1,9 @@
 package com.mini.soccer.dto.response;
 
+import com.mini.soccer.model.Money;
 import lombok.Builder;
 import lombok.Value;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Value
@@ -14,8 +14,8 @@ public class AdminBookingDetailResponse {
     String status;
     LocalDateTime startTime;
     LocalDateTime endTime;
-    BigDecimal pricePerHour;
-    BigDecimal totalAmount;
+    Money pricePerHour;
+    Money totalAmount;
     LocalDateTime createdAt;
     Long userId;
     String userFullName;
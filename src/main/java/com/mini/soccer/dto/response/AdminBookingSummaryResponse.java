@@ -1,20 +1,22 @@
 package com.mini.soccer.dto.response;
 
+import com.mini.soccer.model.Money;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Value;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Value
 @Builder
+@AllArgsConstructor
 public class AdminBookingSummaryResponse {
     Long bookingId;
     String bookingCode;
     String status;
     LocalDateTime startTime;
     LocalDateTime endTime;
-    BigDecimal totalAmount;
+    Money totalAmount;
     LocalDateTime createdAt;
     Long userId;
     String userFullName;
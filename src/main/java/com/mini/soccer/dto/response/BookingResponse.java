@@ -1,9 +1,9 @@
 package com.mini.soccer.dto.response;
 
+import com.mini.soccer.model.Money;
 import lombok.Builder;
 import lombok.Value;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Value
@@ -15,8 +15,8 @@ public class BookingResponse {
     String fieldName;
     LocalDateTime startTime;
     LocalDateTime endTime;
-    BigDecimal pricePerHour;
-    BigDecimal totalAmount;
+    Money pricePerHour;
+    Money totalAmount;
     String status;
     LocalDateTime createdAt;
     LocalDateTime cancelledAt;
@@ -0,0 +1,15 @@
+package com.mini.soccer.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class CursorPageResponse<T> {
+    List<T> items;
+    Integer size;
+    String nextCursor;
+    boolean hasNext;
+}
@@ -0,0 +1,18 @@
+package com.mini.soccer.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Value
+@Builder
+public class FieldAvailabilityResponse {
+    Long fieldId;
+    LocalDateTime from;
+    LocalDateTime to;
+    Integer slotMinutes;
+    List<TimeRangeResponse> freeSlots;
+    List<TimeRangeResponse> busySlots;
+}
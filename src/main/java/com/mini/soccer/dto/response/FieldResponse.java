@@ -1,15 +1,14 @@
 package com.mini.soccer.dto.response;
 
+import com.mini.soccer.model.Money;
 import lombok.Builder;
 import lombok.Value;
 
-import java.math.BigDecimal;
-
 @Value
 @Builder
 public class FieldResponse {
     Long fieldId;
     String name;
-    BigDecimal pricePerHour;
+    Money pricePerHour;
     String description;
 }
@@ -0,0 +1,22 @@
+package com.mini.soccer.dto.response;
+
+import com.mini.soccer.model.Money;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+@Value
+@Builder
+public class FieldRollupResponse {
+    Long fieldId;
+    String fieldName;
+    LocalDate from;
+    LocalDate to;
+    Long bookedMinutes;
+    Long bookings;
+    Long cancellations;
+    Money confirmedRevenue;
+    Long refundsPending;
+    Money refundsPendingAmount;
+}
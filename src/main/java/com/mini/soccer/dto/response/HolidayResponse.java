@@ -0,0 +1,13 @@
+package com.mini.soccer.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+@Value
+@Builder
+public class HolidayResponse {
+    LocalDate date;
+    String name;
+}
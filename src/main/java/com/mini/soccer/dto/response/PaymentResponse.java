@@ -1,10 +1,10 @@
 package com.mini.soccer.dto.response;
 
 import com.mini.soccer.enums.PaymentMethod;
+import com.mini.soccer.model.Money;
 import lombok.Builder;
 import lombok.Value;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Value
@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
 public class PaymentResponse {
     Long paymentId;
     Long bookingId;
-    BigDecimal amount;
+    Money amount;
     String status;
     PaymentMethod paymentMethod;
     String transactionCode;
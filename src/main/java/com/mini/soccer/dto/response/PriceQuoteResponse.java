@@ -0,0 +1,19 @@
+package com.mini.soccer.dto.response;
+
+import com.mini.soccer.model.Money;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Value
+@Builder
+public class PriceQuoteResponse {
+    Long fieldId;
+    LocalDateTime startTime;
+    LocalDateTime endTime;
+    Money pricePerHour;
+    Money totalAmount;
+    List<PriceSegmentResponse> segments;
+}
@@ -0,0 +1,15 @@
+package com.mini.soccer.dto.response;
+
+import com.mini.soccer.model.Money;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+@Value
+@Builder
+public class PriceSegmentResponse {
+    LocalDateTime startTime;
+    LocalDateTime endTime;
+    Money pricePerHour;
+}
@@ -0,0 +1,23 @@
+package com.mini.soccer.dto.response;
+
+import com.mini.soccer.model.Money;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+@Value
+@Builder
+public class PricingRuleResponse {
+    Long pricingRuleId;
+    Long fieldId;
+    String name;
+    List<DayOfWeek> daysOfWeek;
+    boolean holidays;
+    LocalTime startTime;
+    LocalTime endTime;
+    Money pricePerHour;
+    int priority;
+}
@@ -0,0 +1,17 @@
+package com.mini.soccer.dto.response;
+
+import com.mini.soccer.model.Money;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class SeriesBookingResponse {
+    Long fieldId;
+    String fieldName;
+    Integer occurrences;
+    Money totalAmount;
+    List<BookingResponse> bookings;
+}
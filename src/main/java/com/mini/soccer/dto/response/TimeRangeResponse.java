@@ -0,0 +1,13 @@
+package com.mini.soccer.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+@Value
+@Builder
+public class TimeRangeResponse {
+    LocalDateTime startTime;
+    LocalDateTime endTime;
+}
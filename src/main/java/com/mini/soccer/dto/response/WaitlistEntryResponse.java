@@ -0,0 +1,20 @@
+package com.mini.soccer.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+@Value
+@Builder
+public class WaitlistEntryResponse {
+    Long waitlistEntryId;
+    Long fieldId;
+    String fieldName;
+    LocalDateTime startTime;
+    LocalDateTime endTime;
+    String status;
+    LocalDateTime createdAt;
+    Long offeredBookingId;
+    LocalDateTime offerExpiresAt;
+}
@@ -0,0 +1,7 @@
+package com.mini.soccer.enums;
+
+public enum BookingScope {
+    UPCOMING,
+    PAST,
+    ALL
+}
@@ -0,0 +1,6 @@
+package com.mini.soccer.enums;
+
+public enum ExportFormat {
+    CSV,
+    NDJSON
+}
@@ -4,5 +4,6 @@ public enum PaymentStatus {
     PENDING,
     PAID,
     REFUND_PENDING,
-    REFUNDED
+    REFUNDED,
+    EXPIRED
 }
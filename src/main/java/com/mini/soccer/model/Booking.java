@@ -4,11 +4,14 @@ import com.mini.soccer.enums.BookingStatus;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_created_at_id", columnList = "created_at, booking_id"),
+        @Index(name = "idx_bookings_user_start_id", columnList = "user_id, start_time, booking_id"),
+        @Index(name = "idx_bookings_hold_expires_at", columnList = "hold_expires_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +20,15 @@ import java.time.LocalDateTime;
 public class Booking {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "booking_id_generator")
+    @TableGenerator(
+            name = "booking_id_generator",
+            table = "id_generators",
+            pkColumnName = "gen_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "bookings",
+            allocationSize = 50
+    )
     private Long bookingId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,10 +43,10 @@ public class Booking {
     private LocalDateTime endTime;
 
     @Column(precision = 10, scale = 2)
-    private BigDecimal priceAtBooking;
+    private Money priceAtBooking;
 
     @Column(precision = 10, scale = 2)
-    private BigDecimal totalAmount;
+    private Money totalAmount;
 
     @Column(nullable = false, unique = true, length = 10)
     private String bookingCode;
@@ -50,6 +61,9 @@ public class Booking {
 
     private LocalDateTime cancelledAt;
 
+    // Set while a PENDING booking waits for an online payment; the slot is released after it.
+    private LocalDateTime holdExpiresAt;
+
     @Column(nullable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
@@ -3,7 +3,6 @@ package com.mini.soccer.model;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
 
 @Entity
 @Table(name = "fields")
@@ -22,7 +21,7 @@ public class Field {
     private String name;
 
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal pricePerHour;
+    private Money pricePerHour;
 
     @Column(columnDefinition = "TEXT")
     private String description;
@@ -0,0 +1,22 @@
+package com.mini.soccer.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "holidays")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Holiday {
+
+    @Id
+    private LocalDate holidayDate;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+}
@@ -5,11 +5,12 @@ import com.mini.soccer.enums.PaymentStatus;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_status_method_expires", columnList = "status, payment_method, expires_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,7 +19,15 @@ import java.time.LocalDateTime;
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "payment_id_generator")
+    @TableGenerator(
+            name = "payment_id_generator",
+            table = "id_generators",
+            pkColumnName = "gen_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "payments",
+            allocationSize = 50
+    )
     private Long paymentId;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -26,7 +35,7 @@ public class Payment {
     private Booking booking;
 
     @Column(precision = 10, scale = 2)
-    private BigDecimal amount;
+    private Money amount;
 
     @Enumerated(EnumType.STRING)
     @Column(length = 20, nullable = false)
@@ -42,6 +51,9 @@ public class Payment {
     private String transactionCode;
 
     private LocalDateTime paidAt;
+
+    // When an unpaid online payment is given up; swept to EXPIRED after this.
+    private LocalDateTime expiresAt;
     private LocalDateTime refundedAt;
 
     private String vnpTxnRef;
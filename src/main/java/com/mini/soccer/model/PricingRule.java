@@ -0,0 +1,48 @@
+package com.mini.soccer.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalTime;
+
+@Entity
+@Table(name = "pricing_rules")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PricingRule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long pricingRuleId;
+
+    // Null for rules that apply to every field.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "field_id")
+    private Field field;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    // Bit (DayOfWeek.getValue() - 1) is set for every weekday the rule applies to.
+    @Column(nullable = false)
+    private int daysMask;
+
+    @Column(nullable = false)
+    private boolean holidays;
+
+    @Column(nullable = false)
+    private LocalTime startTime;
+
+    // 00:00 means the end of the day.
+    @Column(nullable = false)
+    private LocalTime endTime;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private Money pricePerHour;
+
+    @Column(nullable = false)
+    private int priority;
+}
@@ -0,0 +1,60 @@
+package com.mini.soccer.model;
+
+import com.mini.soccer.enums.WaitlistStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "waitlist_entries", indexes = {
+        @Index(name = "idx_waitlist_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_waitlist_user_created", columnList = "user_id, created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "waitlist_entry_id_generator")
+    @TableGenerator(
+            name = "waitlist_entry_id_generator",
+            table = "id_generators",
+            pkColumnName = "gen_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "waitlist_entries",
+            allocationSize = 50
+    )
+    private Long waitlistEntryId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "field_id", nullable = false)
+    private Field field;
+
+    @Column(nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(nullable = false)
+    private LocalDateTime endTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private WaitlistStatus status = WaitlistStatus.WAITING;
+
+    // The held booking created when a matching slot was released.
+    private Long offeredBookingId;
+
+    private LocalDateTime offerExpiresAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
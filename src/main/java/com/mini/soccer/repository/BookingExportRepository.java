@@ -0,0 +1,16 @@
+package com.mini.soccer.repository;
+
+import com.mini.soccer.repository.projection.BookingExportRow;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public interface BookingExportRepository {
+
+    /**
+     * Bookings starting in {@code [from, to)} with their user, field and payment, in
+     * booking id order. The stream holds an open result set and must be closed; no
+     * other query may run on the same connection while it is being read.
+     */
+    Stream<BookingExportRow> streamExportRows(LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,48 @@
+package com.mini.soccer.repository;
+
+import com.mini.soccer.repository.projection.BookingExportRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Runs the export query with a configurable fetch size. The default,
+ * {@code Integer.MIN_VALUE}, makes MySQL Connector/J stream rows one by one on this
+ * statement only, instead of buffering the whole result set.
+ */
+class BookingExportRepositoryImpl implements BookingExportRepository {
+
+    private static final String EXPORT_QUERY = """
+        select new com.mini.soccer.repository.projection.BookingExportRow(
+            b.bookingId, b.bookingCode, b.status, b.startTime, b.endTime, b.totalAmount, b.createdAt,
+            b.cancelledAt, u.userId, u.fullName, u.phoneNumber, f.fieldId, f.name,
+            p.status, p.paymentMethod, p.amount, p.transactionCode, p.paidAt, p.refundedAt)
+        from Booking b
+        join b.user u
+        join b.field f
+        left join Payment p on p.booking = b
+        where b.startTime >= :from
+          and b.startTime < :to
+        order by b.bookingId
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${booking.export.fetch-size:" + Integer.MIN_VALUE + "}")
+    private int fetchSize;
+
+    @Override
+    public Stream<BookingExportRow> streamExportRows(LocalDateTime from, LocalDateTime to) {
+        return entityManager.createQuery(EXPORT_QUERY, BookingExportRow.class)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -1,35 +1,181 @@
 package com.mini.soccer.repository;
 
+import com.mini.soccer.dto.response.AdminBookingSummaryResponse;
 import com.mini.soccer.enums.BookingStatus;
 import com.mini.soccer.model.Booking;
+import com.mini.soccer.repository.projection.BookedSlot;
+import com.mini.soccer.repository.projection.HeldBooking;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingExportRepository {
 
-    boolean existsByBookingCode(String bookingCode);
+    String ADMIN_SUMMARY_SELECT = """
+        select new com.mini.soccer.dto.response.AdminBookingSummaryResponse(
+            b.bookingId, b.bookingCode, cast(b.status as String), b.startTime, b.endTime, b.totalAmount,
+            b.createdAt, u.userId, u.fullName, u.phoneNumber, f.fieldId, f.name,
+            b.cancelledAt, b.cancellationReason)
+        from Booking b
+        join b.user u
+        join b.field f
+        """;
+
+    @Query(value = ADMIN_SUMMARY_SELECT,
+            countQuery = "select count(b) from Booking b")
+    Page<AdminBookingSummaryResponse> findAdminSummaries(Pageable pageable);
+
+    @Query(value = ADMIN_SUMMARY_SELECT + """
+        where upper(b.bookingCode) like upper(concat('%', :bookingCode, '%'))
+        """,
+            countQuery = """
+        select count(b) from Booking b
+        where upper(b.bookingCode) like upper(concat('%', :bookingCode, '%'))
+        """)
+    Page<AdminBookingSummaryResponse> findAdminSummariesByBookingCode(@Param("bookingCode") String bookingCode,
+                                                                      Pageable pageable);
+
+    @Query(value = ADMIN_SUMMARY_SELECT + """
+        where b.bookingId in :bookingIds
+        """,
+            countQuery = "select count(b) from Booking b where b.bookingId in :bookingIds")
+    Page<AdminBookingSummaryResponse> findAdminSummariesByIds(@Param("bookingIds") Collection<Long> bookingIds,
+                                                              Pageable pageable);
+
+    @Query(ADMIN_SUMMARY_SELECT + """
+        where b.createdAt < :createdAt
+           or (b.createdAt = :createdAt and b.bookingId < :bookingId)
+        order by b.createdAt desc, b.bookingId desc
+        """)
+    List<AdminBookingSummaryResponse> findAdminSummariesBefore(@Param("createdAt") LocalDateTime createdAt,
+                                                               @Param("bookingId") Long bookingId,
+                                                               Limit limit);
+
+    @Query(ADMIN_SUMMARY_SELECT + """
+        where upper(b.bookingCode) like upper(concat('%', :bookingCode, '%'))
+          and (b.createdAt < :createdAt
+               or (b.createdAt = :createdAt and b.bookingId < :bookingId))
+        order by b.createdAt desc, b.bookingId desc
+        """)
+    List<AdminBookingSummaryResponse> findAdminSummariesByBookingCodeBefore(@Param("bookingCode") String bookingCode,
+                                                                            @Param("createdAt") LocalDateTime createdAt,
+                                                                            @Param("bookingId") Long bookingId,
+                                                                            Limit limit);
 
-    Page<Booking> findByBookingCodeContainingIgnoreCase(String bookingCode, Pageable pageable);
+    @Query(ADMIN_SUMMARY_SELECT + """
+        where b.bookingId in :bookingIds
+          and (b.createdAt < :createdAt
+               or (b.createdAt = :createdAt and b.bookingId < :bookingId))
+        order by b.createdAt desc, b.bookingId desc
+        """)
+    List<AdminBookingSummaryResponse> findAdminSummariesByIdsBefore(@Param("bookingIds") Collection<Long> bookingIds,
+                                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                                    @Param("bookingId") Long bookingId,
+                                                                    Limit limit);
+
+    @Query("""
+        select new com.mini.soccer.repository.projection.HeldBooking(b.bookingId, b.holdExpiresAt)
+        from Booking b
+        where b.status = com.mini.soccer.enums.BookingStatus.PENDING
+          and b.holdExpiresAt is not null
+        """)
+    List<HeldBooking> findHeldBookings();
 
     @Query("""
-        select case when count(b) > 0 then true else false end
+        select b.bookingId
+        from Booking b
+        where b.status = com.mini.soccer.enums.BookingStatus.PENDING
+          and b.holdExpiresAt <= :now
+        order by b.holdExpiresAt
+        """)
+    List<Long> findExpiredHoldIds(@Param("now") LocalDateTime now, Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Booking b where b.bookingId in :bookingIds")
+    List<Booking> findAllByIdForUpdate(@Param("bookingIds") Collection<Long> bookingIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Booking b where b.bookingId = :bookingId")
+    Optional<Booking> findByIdForUpdate(@Param("bookingId") Long bookingId);
+
+    @Query("""
+        select b from Booking b
+        join fetch b.user
+        join fetch b.field
+        where b.bookingId = :bookingId
+        """)
+    Optional<Booking> findWithUserAndFieldById(@Param("bookingId") Long bookingId);
+
+    @Query("""
+        select new com.mini.soccer.repository.projection.BookedSlot(b.bookingId, b.field.fieldId, b.startTime, b.endTime)
+        from Booking b
+        where b.status in :activeStatuses
+          and b.endTime > :endingAfter
+        """)
+    List<BookedSlot> findActiveSlotsEndingAfter(@Param("activeStatuses") Collection<BookingStatus> activeStatuses,
+                                                @Param("endingAfter") LocalDateTime endingAfter);
+
+    @Query("""
+        select new com.mini.soccer.repository.projection.BookedSlot(b.bookingId, b.field.fieldId, b.startTime, b.endTime)
         from Booking b
         where b.field.fieldId = :fieldId
           and b.status in :activeStatuses
-          and b.startTime < :requestedEnd
-          and b.endTime > :requestedStart
+          and b.endTime > :endingAfter
         """)
-    boolean existsOverlappingBooking(@Param("fieldId") Long fieldId,
-                                     @Param("activeStatuses") Collection<BookingStatus> activeStatuses,
-                                     @Param("requestedStart") LocalDateTime requestedStart,
-                                     @Param("requestedEnd") LocalDateTime requestedEnd);
+    List<BookedSlot> findActiveSlotsByFieldEndingAfter(@Param("fieldId") Long fieldId,
+                                                       @Param("activeStatuses") Collection<BookingStatus> activeStatuses,
+                                                       @Param("endingAfter") LocalDateTime endingAfter);
 
-    List<Booking> findByUser_UserIdOrderByStartTimeDesc(Long userId);
+    @Query("""
+        select b from Booking b
+        join fetch b.field
+        where b.user.userId = :userId
+          and (b.startTime < :startTime
+               or (b.startTime = :startTime and b.bookingId < :bookingId))
+        order by b.startTime desc, b.bookingId desc
+        """)
+    List<Booking> findUserPageBefore(@Param("userId") Long userId,
+                                     @Param("startTime") LocalDateTime startTime,
+                                     @Param("bookingId") Long bookingId,
+                                     Limit limit);
+
+    @Query("""
+        select b from Booking b
+        join fetch b.field
+        where b.user.userId = :userId
+          and b.endTime <= :now
+          and (b.startTime < :startTime
+               or (b.startTime = :startTime and b.bookingId < :bookingId))
+        order by b.startTime desc, b.bookingId desc
+        """)
+    List<Booking> findUserPastPageBefore(@Param("userId") Long userId,
+                                         @Param("now") LocalDateTime now,
+                                         @Param("startTime") LocalDateTime startTime,
+                                         @Param("bookingId") Long bookingId,
+                                         Limit limit);
+
+    @Query("""
+        select b from Booking b
+        join fetch b.field
+        where b.user.userId = :userId
+          and b.endTime > :now
+          and (b.startTime > :startTime
+               or (b.startTime = :startTime and b.bookingId > :bookingId))
+        order by b.startTime asc, b.bookingId asc
+        """)
+    List<Booking> findUserUpcomingPageAfter(@Param("userId") Long userId,
+                                            @Param("now") LocalDateTime now,
+                                            @Param("startTime") LocalDateTime startTime,
+                                            @Param("bookingId") Long bookingId,
+                                            Limit limit);
 }
@@ -0,0 +1,9 @@
+package com.mini.soccer.repository;
+
+import com.mini.soccer.model.Holiday;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+
+public interface HolidayRepository extends JpaRepository<Holiday, LocalDate> {
+}
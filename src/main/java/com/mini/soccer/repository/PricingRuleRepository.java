@@ -0,0 +1,17 @@
+package com.mini.soccer.repository;
+
+import com.mini.soccer.model.PricingRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface PricingRuleRepository extends JpaRepository<PricingRule, Long> {
+
+    @Query("""
+        select r from PricingRule r
+        left join fetch r.field
+        order by r.priority, r.pricingRuleId
+        """)
+    List<PricingRule> findAllWithField();
+}
@@ -0,0 +1,54 @@
+package com.mini.soccer.repository;
+
+import com.mini.soccer.enums.WaitlistStatus;
+import com.mini.soccer.model.WaitlistEntry;
+import com.mini.soccer.repository.projection.WaitingEntry;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    String WAITING_ENTRY_SELECT = """
+        select new com.mini.soccer.repository.projection.WaitingEntry(
+            w.waitlistEntryId, w.field.fieldId, w.startTime, w.endTime, w.createdAt)
+        from WaitlistEntry w
+        """;
+
+    @Query(WAITING_ENTRY_SELECT + """
+        where w.status = com.mini.soccer.enums.WaitlistStatus.WAITING
+          and w.endTime > :now
+        """)
+    List<WaitingEntry> findWaitingEntries(@Param("now") LocalDateTime now);
+
+    @Query(WAITING_ENTRY_SELECT + """
+        where w.status = com.mini.soccer.enums.WaitlistStatus.WAITING
+          and w.createdAt >= :since
+        """)
+    List<WaitingEntry> findWaitingEntriesCreatedSince(@Param("since") LocalDateTime since);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select w from WaitlistEntry w join fetch w.user join fetch w.field where w.waitlistEntryId = :id")
+    Optional<WaitlistEntry> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("""
+        select w from WaitlistEntry w
+        join fetch w.field
+        where w.user.userId = :userId
+          and w.endTime > :now
+        order by w.createdAt desc
+        """)
+    List<WaitlistEntry> findUpcomingByUser(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    boolean existsByUser_UserIdAndField_FieldIdAndStartTimeAndEndTimeAndStatus(Long userId,
+                                                                            Long fieldId,
+                                                                            LocalDateTime startTime,
+                                                                            LocalDateTime endTime,
+                                                                            WaitlistStatus status);
+}
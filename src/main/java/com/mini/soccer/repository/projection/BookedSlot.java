@@ -0,0 +1,9 @@
+package com.mini.soccer.repository.projection;
+
+import java.time.LocalDateTime;
+
+public record BookedSlot(Long bookingId,
+                         Long fieldId,
+                         LocalDateTime startTime,
+                         LocalDateTime endTime) {
+}
@@ -0,0 +1,29 @@
+package com.mini.soccer.repository.projection;
+
+import com.mini.soccer.enums.BookingStatus;
+import com.mini.soccer.enums.PaymentMethod;
+import com.mini.soccer.enums.PaymentStatus;
+import com.mini.soccer.model.Money;
+
+import java.time.LocalDateTime;
+
+public record BookingExportRow(Long bookingId,
+                               String bookingCode,
+                               BookingStatus status,
+                               LocalDateTime startTime,
+                               LocalDateTime endTime,
+                               Money totalAmount,
+                               LocalDateTime createdAt,
+                               LocalDateTime cancelledAt,
+                               Long userId,
+                               String userFullName,
+                               String userPhoneNumber,
+                               Long fieldId,
+                               String fieldName,
+                               PaymentStatus paymentStatus,
+                               PaymentMethod paymentMethod,
+                               Money paymentAmount,
+                               String transactionCode,
+                               LocalDateTime paidAt,
+                               LocalDateTime refundedAt) {
+}
@@ -0,0 +1,7 @@
+package com.mini.soccer.repository.projection;
+
+import java.time.LocalDateTime;
+
+public record HeldBooking(Long bookingId,
+                          LocalDateTime holdExpiresAt) {
+}
@@ -0,0 +1,10 @@
+package com.mini.soccer.repository.projection;
+
+import java.time.LocalDateTime;
+
+public record WaitingEntry(Long waitlistEntryId,
+                           Long fieldId,
+                           LocalDateTime startTime,
+                           LocalDateTime endTime,
+                           LocalDateTime createdAt) {
+}
@@ -1,12 +1,15 @@
 package com.mini.soccer.security.jwt;
 
+import com.mini.soccer.security.userdetails.AppUserDetails;
 import com.mini.soccer.security.userdetails.AppUserDetailsService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,6 +20,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -25,6 +29,11 @@ public class AuthTokenFilter extends OncePerRequestFilter {
 
     private final JwtUtils jwtUtils;
     private final AppUserDetailsService userDetailsService;
+    private final TokenVersions tokenVersions;
+    private final RevokedTokens revokedTokens;
+
+    @Value("${auth.token.statelessPrincipal:false}")
+    private boolean statelessPrincipal;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -33,10 +42,8 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         try {
             String jwt = parseJwt(request);
 
-            if (StringUtils.hasText(jwt)
-                    && jwtUtils.validateToken(jwt)
-                    && SecurityContextHolder.getContext().getAuthentication() == null) {
-                authenticateUser(jwt, request);
+            if (StringUtils.hasText(jwt) && SecurityContextHolder.getContext().getAuthentication() == null) {
+                jwtUtils.verify(jwt).ifPresent(claims -> authenticateUser(claims, request));
             }
         } catch (Exception e) {
             log.error("Cannot set user authentication for request: {} {}",
@@ -45,12 +52,22 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private void authenticateUser(String jwt, HttpServletRequest request) {
+    private void authenticateUser(Claims claims, HttpServletRequest request) {
         try {
-            String phoneNumber = jwtUtils.getPhoneNumberFromToken(jwt);
+            String phoneNumber = claims.getSubject();
             log.debug("Extracted phone number from JWT: {}", phoneNumber);
 
-            UserDetails userDetails = userDetailsService.loadUserByUsername(phoneNumber);
+            Long userId = claims.get(JwtUtils.USER_ID_CLAIM, Long.class);
+            Long tokenVersion = claims.get(JwtUtils.TOKEN_VERSION_CLAIM, Long.class);
+            if (userId == null || tokenVersions.isRevoked(userId, tokenVersion != null ? tokenVersion : 0)
+                    || revokedTokens.isRevoked(claims.getId(), claims.getExpiration())) {
+                log.debug("Rejected revoked JWT for user {}", userId);
+                return;
+            }
+
+            UserDetails userDetails = statelessPrincipal
+                    ? principalFromClaims(userId, phoneNumber, claims)
+                    : userDetailsService.loadUserByUsername(phoneNumber);
             var authentication = new UsernamePasswordAuthenticationToken(
                     userDetails, null, userDetails.getAuthorities());
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -61,11 +78,14 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private UserDetails principalFromClaims(Long userId, String phoneNumber, Claims claims) {
+        List<String> roles = claims.get(JwtUtils.ROLES_CLAIM, List.class);
+        return AppUserDetails.fromClaims(userId, claims.get(JwtUtils.FULL_NAME_CLAIM, String.class), phoneNumber,
+                roles != null ? roles : List.of());
+    }
+
     public String parseJwt(HttpServletRequest request) {
-        String headerAuth = request.getHeader("Authorization");
-        if (StringUtils.hasText(headerAuth) && headerAuth.startsWith("Bearer ")) {
-            return headerAuth.substring(7);
-        }
-        return null;
+        return jwtUtils.bearerToken(request);
     }
 }
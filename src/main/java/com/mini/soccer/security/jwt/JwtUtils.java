@@ -3,34 +3,56 @@ package com.mini.soccer.security.jwt;
 import com.mini.soccer.security.userdetails.AppUserDetails;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Issues and verifies access tokens. The signing key and parser are built once; a
+ * verified token's claims are cached until it expires, so repeated requests with the
+ * same token skip the HMAC check and the JSON parse.
+ */
 @Component
 public class JwtUtils {
 
-    @Value("${auth.token.jwtSecret}")
-    private String jwtSecret;
+    static final String USER_ID_CLAIM = "userId";
+    static final String FULL_NAME_CLAIM = "fullName";
+    static final String ROLES_CLAIM = "roles";
+    static final String TOKEN_VERSION_CLAIM = "ver";
 
-    @Value("${auth.token.accessExpirationInMils:86400000}")
-    private Long accessExpirationInMillis;
+    private final long accessExpirationInMillis;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtUtils(@Value("${auth.token.jwtSecret}") String jwtSecret,
+                    @Value("${auth.token.accessExpirationInMils:86400000}") long accessExpirationInMillis,
+                    @Value("${auth.token.verifiedCacheSize:10000}") int verifiedCacheSize) {
+        this.accessExpirationInMillis = accessExpirationInMillis;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.verifiedTokens = new VerifiedTokenCache(verifiedCacheSize);
     }
 
-    public String generateAccessToken(Authentication authentication) {
+    /**
+     * Issues a token for the authenticated user, stamped with the user's current
+     * {@link TokenVersions token version}.
+     */
+    public String generateAccessToken(Authentication authentication, long tokenVersion) {
         AppUserDetails userPrincipal = (AppUserDetails) authentication.getPrincipal();
 
         List<String> roles = userPrincipal.getAuthorities()
@@ -40,50 +62,55 @@ public class JwtUtils {
 
         return Jwts.builder()
                 .subject(userPrincipal.getUsername())
-                .claim("userId", userPrincipal.getUserId())
-                .claim("fullName", userPrincipal.getFullName())
-                .claim("roles", roles)
+                .claim(USER_ID_CLAIM, userPrincipal.getUserId())
+                .claim(FULL_NAME_CLAIM, userPrincipal.getFullName())
+                .claim(ROLES_CLAIM, roles)
+                .claim(TOKEN_VERSION_CLAIM, tokenVersion)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + accessExpirationInMillis))
                 .id(UUID.randomUUID().toString())
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     public String generateToken(String phoneNumber, Long userId, String roleName) {
         return Jwts.builder()
                 .subject(phoneNumber)
-                .claim("userId", userId)
-                .claim("roles", List.of(roleName))
+                .claim(USER_ID_CLAIM, userId)
+                .claim(ROLES_CLAIM, List.of(roleName))
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + accessExpirationInMillis))
                 .id(UUID.randomUUID().toString())
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public String getPhoneNumberFromToken(String token) {
+    /**
+     * Claims of a correctly signed, unexpired token, or empty for anything else.
+     */
+    public Optional<Claims> verify(String token) {
+        long now = System.currentTimeMillis();
+        Claims cached = verifiedTokens.get(token, now);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-            return claims.getSubject();
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Invalid or expired JWT token", e);
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            verifiedTokens.put(token, claims, now);
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
     }
 
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
+    /**
+     * The token from an {@code Authorization: Bearer} header, or {@code null}.
+     */
+    public String bearerToken(HttpServletRequest request) {
+        String headerAuth = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.hasText(headerAuth) && headerAuth.startsWith("Bearer ")) {
+            return headerAuth.substring(7);
         }
+        return null;
     }
 }
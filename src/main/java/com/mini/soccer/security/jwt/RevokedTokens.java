@@ -0,0 +1,138 @@
+package com.mini.soccer.security.jwt;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ids of individually revoked access tokens from {@code revoked_tokens}, kept until
+ * the tokens expire. In memory they are grouped by the hour the token expires in:
+ * a check is one lookup in the bucket for the token's own expiry, and expired hours
+ * are dropped whole. Rows revoked on other nodes are picked up by polling
+ * {@code revoked_at}, re-reading a short overlap so slow commits are not missed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevokedTokens {
+
+    private static final long BUCKET_MILLIS = 3_600_000L;
+    private static final long POLL_OVERLAP_MILLIS = 60_000L;
+    private static final int PURGE_CHUNK_SIZE = 1000;
+    private static final String SELECT_SQL = """
+            select jti, expires_at, revoked_at from revoked_tokens
+            where revoked_at >= ? and expires_at > ?
+            """;
+    private static final String INSERT_SQL = "insert ignore into revoked_tokens (jti, expires_at) values (?, ?)";
+    private static final String PURGE_SQL = "delete from revoked_tokens where expires_at <= ? limit " + PURGE_CHUNK_SIZE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, Set<String>> buckets = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    private long lastRevokedAtMillis;
+
+    @PostConstruct
+    void warmUp() {
+        try {
+            ensureLoaded();
+        } catch (RuntimeException ex) {
+            log.warn("Revoked tokens warm-up failed, retrying on first use: {}", ex.getMessage());
+        }
+    }
+
+    public boolean isRevoked(String jti, Date expiration) {
+        if (!loaded) {
+            ensureLoaded();
+        }
+        if (jti == null || expiration == null) {
+            return false;
+        }
+        Set<String> bucket = buckets.get(bucketOf(expiration.getTime()));
+        return bucket != null && bucket.contains(jti);
+    }
+
+    /**
+     * Revokes a single token until it expires, on the caller's transaction.
+     */
+    public void revoke(String jti, Date expiration) {
+        jdbcTemplate.update(INSERT_SQL, jti, new Timestamp(expiration.getTime()));
+        Runnable apply = () -> add(jti, expiration.getTime());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${auth.token.revocationsRefreshInterval:5s}",
+            initialDelayString = "${auth.token.revocationsRefreshInterval:5s}")
+    void refresh() {
+        try {
+            if (!loaded) {
+                ensureLoaded();
+                return;
+            }
+            synchronized (this) {
+                loadSince(lastRevokedAtMillis - POLL_OVERLAP_MILLIS);
+            }
+            long currentBucket = bucketOf(System.currentTimeMillis());
+            buckets.keySet().removeIf(bucket -> bucket < currentBucket);
+        } catch (RuntimeException ex) {
+            log.warn("Revoked tokens refresh failed, keeping the previous revocations: {}", ex.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.token.revocationsPurgeInterval:1h}",
+            initialDelayString = "${auth.token.revocationsPurgeInterval:1h}")
+    void purgeExpired() {
+        try {
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            int purged;
+            do {
+                purged = jdbcTemplate.update(PURGE_SQL, now);
+            } while (purged == PURGE_CHUNK_SIZE);
+        } catch (RuntimeException ex) {
+            log.warn("Purging expired revoked tokens failed: {}", ex.getMessage());
+        }
+    }
+
+    void add(String jti, long expiresAtMillis) {
+        buckets.computeIfAbsent(bucketOf(expiresAtMillis), ignored -> ConcurrentHashMap.newKeySet()).add(jti);
+    }
+
+    private synchronized void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loadSince(0);
+        loaded = true;
+        log.info("Loaded {} revoked tokens", buckets.values().stream().mapToInt(Set::size).sum());
+    }
+
+    private void loadSince(long revokedAtMillis) {
+        jdbcTemplate.query(SELECT_SQL, rs -> {
+            add(rs.getString(1), rs.getTimestamp(2).getTime());
+            lastRevokedAtMillis = Math.max(lastRevokedAtMillis, rs.getTimestamp(3).getTime());
+        }, new Timestamp(revokedAtMillis), new Timestamp(System.currentTimeMillis()));
+    }
+
+    private static long bucketOf(long epochMillis) {
+        return epochMillis / BUCKET_MILLIS;
+    }
+}
@@ -0,0 +1,113 @@
+package com.mini.soccer.security.jwt;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-user token versions from {@code user_token_versions}, held in memory. Access
+ * tokens carry the version current when they were issued; bumping a user's version
+ * revokes every token issued before. Only users whose tokens were ever revoked have
+ * a row, so the whole table is reloaded periodically to pick up revocations made on
+ * other nodes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenVersions {
+
+    private static final String SELECT_ALL_SQL = "select user_id, version from user_token_versions";
+    private static final String SELECT_SQL = "select version from user_token_versions where user_id = ?";
+    private static final String BUMP_SQL = """
+            insert into user_token_versions (user_id, version) values (?, 1)
+            on duplicate key update version = version + 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Map<Long, Long> versions;
+
+    @PostConstruct
+    void warmUp() {
+        try {
+            ensureLoaded();
+        } catch (RuntimeException ex) {
+            log.warn("Token versions warm-up failed, retrying on first use: {}", ex.getMessage());
+        }
+    }
+
+    public long current(Long userId) {
+        return ensureLoaded().getOrDefault(userId, 0L);
+    }
+
+    /**
+     * Whether a token issued at {@code tokenVersion} has since been revoked.
+     */
+    public boolean isRevoked(Long userId, long tokenVersion) {
+        return tokenVersion < current(userId);
+    }
+
+    /**
+     * Revokes every token issued to the user so far, on the caller's transaction.
+     */
+    public void revokeAll(Long userId) {
+        jdbcTemplate.update(BUMP_SQL, userId);
+        long version = jdbcTemplate.queryForObject(SELECT_SQL, Long.class, userId);
+        Runnable apply = () -> ensureLoaded().merge(userId, version, Math::max);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${auth.token.versionsRefreshInterval:10s}",
+            initialDelayString = "${auth.token.versionsRefreshInterval:10s}")
+    void refresh() {
+        try {
+            Map<Long, Long> loaded = load();
+            // Versions only grow; keep local revocations that committed while the table was being read.
+            Map<Long, Long> previous = versions;
+            if (previous != null) {
+                previous.forEach((userId, version) -> loaded.merge(userId, version, Math::max));
+            }
+            versions = loaded;
+        } catch (RuntimeException ex) {
+            log.warn("Token versions refresh failed, keeping the previous versions: {}", ex.getMessage());
+        }
+    }
+
+    private Map<Long, Long> ensureLoaded() {
+        Map<Long, Long> current = versions;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (versions == null) {
+                versions = load();
+                log.info("Loaded token versions for {} users", versions.size());
+            }
+            return versions;
+        }
+    }
+
+    private Map<Long, Long> load() {
+        Map<Long, Long> loaded = new ConcurrentHashMap<>();
+        jdbcTemplate.query(SELECT_ALL_SQL, rs -> {
+            loaded.put(rs.getLong(1), rs.getLong(2));
+        });
+        return loaded;
+    }
+}
@@ -0,0 +1,64 @@
+package com.mini.soccer.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Claims of tokens whose signature has already been checked, keyed by the SHA-256 of
+ * the token so raw bearer tokens are not kept in memory. An entry is only served
+ * until the token's own expiry. The cache is bounded: when full, expired entries are
+ * purged and, if that frees nothing, new tokens are simply verified every time.
+ */
+class VerifiedTokenCache {
+
+    private final int maxEntries;
+    private final Map<ByteBuffer, Entry> entries = new ConcurrentHashMap<>();
+
+    VerifiedTokenCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    Claims get(String token, long nowMillis) {
+        ByteBuffer key = digest(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= nowMillis) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.claims();
+    }
+
+    void put(String token, Claims claims, long nowMillis) {
+        if (maxEntries <= 0 || claims.getExpiration() == null) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(entry -> entry.expiresAtMillis() <= nowMillis);
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(digest(token), new Entry(claims, claims.getExpiration().getTime()));
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private record Entry(Claims claims, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,103 @@
+package com.mini.soccer.security.login;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Keeps password hashing for logins off the servlet threads. Attempts are first
+ * charged against per-phone and per-IP token buckets, then run on a small fixed pool
+ * with a bounded queue; anything over either limit is rejected with 429 straight
+ * away instead of waiting for a hashing thread.
+ */
+@Component
+public class LoginGuard {
+
+    private static final String TOO_MANY_ATTEMPTS = "Too many login attempts, try again later";
+
+    private final TokenBuckets phoneBuckets;
+    private final TokenBuckets ipBuckets;
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+    private final Counter phoneRejections;
+    private final Counter ipRejections;
+    private final Counter busyRejections;
+
+    public LoginGuard(MeterRegistry meterRegistry,
+                      @Value("${auth.login.hashThreads:0}") int hashThreads,
+                      @Value("${auth.login.queueCapacity:100}") int queueCapacity,
+                      @Value("${auth.login.phoneBurst:5}") int phoneBurst,
+                      @Value("${auth.login.phoneRefillInterval:1m}") Duration phoneRefillInterval,
+                      @Value("${auth.login.ipBurst:20}") int ipBurst,
+                      @Value("${auth.login.ipRefillInterval:3s}") Duration ipRefillInterval,
+                      @Value("${auth.login.maxTrackedKeys:100000}") int maxTrackedKeys) {
+        this.phoneBuckets = new TokenBuckets(phoneBurst, phoneRefillInterval, maxTrackedKeys);
+        this.ipBuckets = new TokenBuckets(ipBurst, ipRefillInterval, maxTrackedKeys);
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+                    Thread thread = new Thread(runnable, "login-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.hashTimer = Timer.builder("auth.login.hash")
+                .description("Time spent authenticating a login on the hashing pool")
+                .register(meterRegistry);
+        this.phoneRejections = rejections(meterRegistry, "phone");
+        this.ipRejections = rejections(meterRegistry, "ip");
+        this.busyRejections = rejections(meterRegistry, "busy");
+        Gauge.builder("auth.login.queued", executor, pool -> pool.getQueue().size())
+                .description("Logins waiting for a hashing thread")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code authentication} on the hashing pool once both the phone number and the
+     * client address have attempts left.
+     */
+    public <T> CompletableFuture<T> submit(String phoneNumber, String clientAddress, Supplier<T> authentication) {
+        long now = System.nanoTime();
+        if (!ipBuckets.tryAcquire(clientAddress, now)) {
+            ipRejections.increment();
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, TOO_MANY_ATTEMPTS);
+        }
+        if (!phoneBuckets.tryAcquire(phoneNumber, now)) {
+            phoneRejections.increment();
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, TOO_MANY_ATTEMPTS);
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> hashTimer.record(authentication), executor);
+        } catch (RejectedExecutionException ex) {
+            busyRejections.increment();
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many logins in progress, try again shortly");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("auth.login.rejected")
+                .description("Login attempts rejected with 429 before hashing")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,85 @@
+package com.mini.soccer.security.login;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory token buckets keyed by an identity such as a phone number or client IP.
+ * Each bucket holds up to {@code capacity} attempts and regains one every
+ * {@code refillInterval}. At most {@code maxKeys} buckets are tracked; when full,
+ * buckets that have refilled completely are dropped and, if that frees nothing, new
+ * identities are let through rather than locking everyone out.
+ */
+class TokenBuckets {
+
+    private final int capacity;
+    private final long refillNanos;
+    private final int maxKeys;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    TokenBuckets(int capacity, Duration refillInterval, int maxKeys) {
+        this.capacity = capacity;
+        this.refillNanos = Math.max(1, refillInterval.toNanos());
+        this.maxKeys = maxKeys;
+    }
+
+    boolean tryAcquire(String key, long nowNanos) {
+        if (capacity <= 0) {
+            return true;
+        }
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                buckets.values().removeIf(candidate -> candidate.isFull(nowNanos));
+                if (buckets.size() >= maxKeys) {
+                    return true;
+                }
+            }
+            bucket = buckets.computeIfAbsent(key, ignored -> new Bucket(nowNanos));
+        }
+        return bucket.tryAcquire(nowNanos);
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private final class Bucket {
+
+        private long tokens = capacity;
+        private long refilledAtNanos;
+
+        private Bucket(long nowNanos) {
+            this.refilledAtNanos = nowNanos;
+        }
+
+        synchronized boolean tryAcquire(long nowNanos) {
+            refill(nowNanos);
+            if (tokens == 0) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+
+        synchronized boolean isFull(long nowNanos) {
+            refill(nowNanos);
+            return tokens == capacity;
+        }
+
+        private void refill(long nowNanos) {
+            long earned = (nowNanos - refilledAtNanos) / refillNanos;
+            if (earned <= 0) {
+                return;
+            }
+            if (tokens + earned >= capacity) {
+                tokens = capacity;
+                refilledAtNanos = nowNanos;
+            } else {
+                tokens += earned;
+                refilledAtNanos += earned * refillNanos;
+            }
+        }
+    }
+}
@@ -48,6 +48,24 @@ public class AppUserDetails implements UserDetails {
         );
     }
 
+    /**
+     * Principal rebuilt from verified token claims, without a password.
+     */
+    public static AppUserDetails fromClaims(Long userId, String fullName, String phoneNumber, List<String> roles) {
+        List<GrantedAuthority> authorities = roles.stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+
+        return new AppUserDetails(
+                userId,
+                fullName,
+                phoneNumber,
+                null,
+                true,
+                authorities
+        );
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
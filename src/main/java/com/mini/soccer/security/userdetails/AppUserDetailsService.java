@@ -1,7 +1,7 @@
 package com.mini.soccer.security.userdetails;
 
 import com.mini.soccer.model.User;
-import com.mini.soccer.repository.UserRepository;
+import com.mini.soccer.service.user.UserDirectory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -12,11 +12,11 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class AppUserDetailsService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserDirectory userDirectory;
 
     @Override
     public UserDetails loadUserByUsername(String phoneNumber) throws UsernameNotFoundException {
-        User user = userRepository.findByPhoneNumber(phoneNumber)
+        User user = userDirectory.findByPhoneNumber(phoneNumber)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with phone: " + phoneNumber));
         return AppUserDetails.buildUserDetails(user);
     }
@@ -0,0 +1,141 @@
+package com.mini.soccer.service.booking;
+
+import com.mini.soccer.model.Booking;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory substring index of every booking code, used by the admin search instead
+ * of a {@code LIKE '%code%'} table scan. It is loaded in the background at startup;
+ * until then, and for queries it cannot answer cheaply, callers fall back to SQL.
+ * Bookings created on other nodes are picked up by a periodic refresh on
+ * {@code created_at}, which re-reads an overlap so bookings committed late, or
+ * stamped by a node with a slightly behind clock, are not missed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingCodeIndex {
+
+    private static final String LOAD_CHUNK_SQL =
+            "select booking_id, booking_code from bookings where booking_id > ? order by booking_id limit ?";
+    private static final String CREATED_SINCE_SQL =
+            "select booking_id, booking_code from bookings where created_at >= ?";
+    private static final int LOAD_CHUNK_SIZE = 50_000;
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+    // Past this many matches an id list is no cheaper for the database than the LIKE query.
+    private static final int MAX_MATCHES = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CodeTrigramIndex index = new CodeTrigramIndex();
+    private final AtomicBoolean loading = new AtomicBoolean();
+    private volatile boolean loaded;
+    private long lastLoadedId;
+    private LocalDateTime lastRefreshAt;
+
+    @PostConstruct
+    void warmUp() {
+        startLoading();
+    }
+
+    /**
+     * Ids of the bookings whose code contains {@code query}, or empty when the
+     * caller should run the SQL search instead.
+     */
+    public Optional<List<Long>> search(String query) {
+        if (!loaded) {
+            startLoading();
+            return Optional.empty();
+        }
+        long[] matches = index.search(query, MAX_MATCHES);
+        if (matches == null) {
+            return Optional.empty();
+        }
+        return Optional.of(Arrays.stream(matches).boxed().toList());
+    }
+
+    /**
+     * Adds the booking's code once the surrounding transaction commits.
+     */
+    public void track(Booking booking) {
+        long bookingId = booking.getBookingId();
+        String code = booking.getBookingCode();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index.add(bookingId, code);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index.add(bookingId, code);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${booking.code-index.refresh-interval:5s}",
+            initialDelayString = "${booking.code-index.refresh-interval:5s}")
+    synchronized void refresh() {
+        if (!loaded) {
+            return;
+        }
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            jdbcTemplate.query(CREATED_SINCE_SQL, rs -> {
+                index.add(rs.getLong(1), rs.getString(2));
+            }, Timestamp.valueOf(lastRefreshAt.minus(REFRESH_OVERLAP)));
+            lastRefreshAt = startedAt;
+        } catch (RuntimeException ex) {
+            log.warn("Booking code index refresh failed, retrying on next run: {}", ex.getMessage());
+        }
+    }
+
+    private void startLoading() {
+        if (loaded || !loading.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("booking-code-index-loader").start(() -> {
+            try {
+                load();
+                log.info("Booking code index loaded {} codes", index.size());
+            } catch (RuntimeException ex) {
+                log.warn("Booking code index load failed at booking {}, resuming on next search: {}",
+                        lastLoadedId, ex.getMessage());
+            } finally {
+                loading.set(false);
+            }
+        });
+    }
+
+    // Reads in booking id order so a failed load resumes where it stopped. Bookings that
+    // commit behind the scan are read by refresh(), which starts from the load's start.
+    synchronized void load() {
+        if (lastRefreshAt == null) {
+            lastRefreshAt = LocalDateTime.now();
+        }
+        List<Object[]> rows;
+        do {
+            rows = jdbcTemplate.query(LOAD_CHUNK_SQL,
+                    (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getString(2)},
+                    lastLoadedId, LOAD_CHUNK_SIZE);
+            for (Object[] row : rows) {
+                index.add((Long) row[0], (String) row[1]);
+                lastLoadedId = (Long) row[0];
+            }
+        } while (rows.size() == LOAD_CHUNK_SIZE);
+        loaded = true;
+    }
+}
@@ -0,0 +1,40 @@
+package com.mini.soccer.service.booking;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position: the sort timestamp and booking id of the last row a
+ * client has seen. Clients only pass the encoded form back unchanged.
+ */
+public record BookingCursor(LocalDateTime time, Long bookingId) {
+
+    // Sort after / before every stored row; used as the starting point of the first page.
+    static final BookingCursor LATEST = new BookingCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+    static final BookingCursor EARLIEST = new BookingCursor(LocalDateTime.of(1000, 1, 1, 0, 0), Long.MIN_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = time + SEPARATOR + bookingId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BookingCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new BookingCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
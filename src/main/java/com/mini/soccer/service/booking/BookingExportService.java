@@ -0,0 +1,121 @@
+package com.mini.soccer.service.booking;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mini.soccer.enums.ExportFormat;
+import com.mini.soccer.repository.BookingRepository;
+import com.mini.soccer.repository.projection.BookingExportRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams bookings with their payment straight from a forward-only database cursor
+ * to the response. Rows are read-only projections, so nothing accumulates in the
+ * persistence context and memory stays flat whatever the export size.
+ */
+@Service
+@RequiredArgsConstructor
+public class BookingExportService implements IBookingExportService {
+
+    private static final int FLUSH_EVERY_ROWS = 1_000;
+    private static final String CSV_HEADER = String.join(",",
+            "booking_id", "booking_code", "status", "start_time", "end_time", "total_amount", "created_at",
+            "cancelled_at", "user_id", "user_full_name", "user_phone_number", "field_id", "field_name",
+            "payment_status", "payment_method", "payment_amount", "transaction_code", "paid_at", "refunded_at");
+
+    private final BookingRepository bookingRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Validates the request up front; the returned body runs the query in its own
+     * read-only transaction while the response is being written.
+     */
+    @Override
+    public StreamingResponseBody exportBookings(LocalDate from, LocalDate to, ExportFormat format) {
+        if (to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'to' must not be before 'from'");
+        }
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return out -> {
+            try {
+                transaction.executeWithoutResult(status -> writeRows(from, to, format, out));
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+        };
+    }
+
+    private void writeRows(LocalDate from, LocalDate to, ExportFormat format, OutputStream out) {
+        try {
+            writeRows(from, to, format, new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeRows(LocalDate from, LocalDate to, ExportFormat format, Writer writer) throws IOException {
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        try (Stream<BookingExportRow> rows = bookingRepository.streamExportRows(
+                from.atStartOfDay(), to.plusDays(1).atStartOfDay())) {
+            int written = 0;
+            Iterator<BookingExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                BookingExportRow row = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsv(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                }
+                writer.write('\n');
+                if (++written % FLUSH_EVERY_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsv(Writer writer, BookingExportRow row) throws IOException {
+        Object[] values = {
+                row.bookingId(), row.bookingCode(), row.status(), row.startTime(), row.endTime(),
+                row.totalAmount(), row.createdAt(), row.cancelledAt(), row.userId(), row.userFullName(),
+                row.userPhoneNumber(), row.fieldId(), row.fieldName(), row.paymentStatus(), row.paymentMethod(),
+                row.paymentAmount(), row.transactionCode(), row.paidAt(), row.refundedAt()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(csvValue(values[i].toString()));
+            }
+        }
+    }
+
+    private String csvValue(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,55 @@
+package com.mini.soccer.service.booking;
+
+import com.mini.soccer.enums.BookingStatus;
+import com.mini.soccer.model.Booking;
+import com.mini.soccer.repository.BookingRepository;
+import com.mini.soccer.service.dashboard.FieldDailyRollups;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Cancels bookings whose payment hold has run out and frees their slots. Rows are
+ * locked and re-checked first, so a payment confirmed at the last moment or a hold
+ * already released by another node is left alone.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingHoldReleaser {
+
+    public static final String HOLD_EXPIRED_REASON = "Payment was not completed in time";
+
+    private final BookingRepository bookingRepository;
+    private final BookingSlotClaims bookingSlotClaims;
+    private final BookingSlotIndex bookingSlotIndex;
+    private final FieldDailyRollups fieldDailyRollups;
+    private final UserBookingVersions userBookingVersions;
+
+    @Transactional
+    public int release(Collection<Long> bookingIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Booking> expired = bookingRepository.findAllByIdForUpdate(bookingIds).stream()
+                .filter(booking -> BookingStatus.PENDING.equals(booking.getStatus()))
+                .filter(booking -> booking.getHoldExpiresAt() != null && !booking.getHoldExpiresAt().isAfter(now))
+                .toList();
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        for (Booking booking : expired) {
+            booking.setStatus(BookingStatus.CANCELLED);
+            booking.setCancellationReason(HOLD_EXPIRED_REASON);
+            booking.setCancelledAt(now);
+        }
+        bookingRepository.saveAll(expired);
+        bookingSlotClaims.release(expired.stream().map(Booking::getBookingId).toList());
+        expired.forEach(fieldDailyRollups::bookingCancelled);
+        userBookingVersions.bump(expired.stream().map(booking -> booking.getUser().getUserId()).toList());
+        expired.forEach(bookingSlotIndex::track);
+        return expired.size();
+    }
+}
@@ -0,0 +1,168 @@
+package com.mini.soccer.service.booking;
+
+import com.mini.soccer.config.BookingProperties;
+import com.mini.soccer.config.VnPayProperties;
+import com.mini.soccer.enums.BookingStatus;
+import com.mini.soccer.model.Booking;
+import com.mini.soccer.repository.BookingRepository;
+import com.mini.soccer.repository.projection.HeldBooking;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time-limited holds on the slots of bookings waiting for a VNPay payment. A held
+ * booking stays PENDING, so the slot index and availability treat it as taken
+ * without any extra query; expired holds are drained from a delay queue and
+ * released in batches. Each node only queues the holds it created and those held at
+ * its startup, so expired holds are also looked up in the database now and then,
+ * releasing those left behind by a node that stopped.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingHoldStore {
+
+    private final BookingRepository bookingRepository;
+    private final BookingHoldReleaser bookingHoldReleaser;
+    private final BookingProperties properties;
+    private final VnPayProperties vnPayProperties;
+    private final DelayQueue<Hold> holds = new DelayQueue<>();
+    private volatile boolean loaded;
+    private long lastDatabaseSweepNanos;
+    private boolean databaseSwept;
+
+    @PostConstruct
+    void warmUp() {
+        try {
+            ensureLoaded();
+        } catch (RuntimeException ex) {
+            log.warn("Booking hold store warm-up failed, retrying on next release run: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Puts the booking on hold until its payment link expires (plus a grace period).
+     * The hold starts counting once the surrounding transaction commits.
+     */
+    public void hold(Booking booking) {
+        hold(booking, LocalDateTime.now()
+                .plusMinutes(vnPayProperties.getExpireMinutes())
+                .plus(properties.getHolds().getGrace()));
+    }
+
+    /**
+     * Puts the booking on hold until {@code expiresAt}, e.g. for a waitlist offer.
+     */
+    public void hold(Booking booking, LocalDateTime expiresAt) {
+        booking.setStatus(BookingStatus.PENDING);
+        booking.setHoldExpiresAt(expiresAt);
+        Hold hold = new Hold(booking.getBookingId(), expiresAt);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            holds.add(hold);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                holds.add(hold);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${booking.holds.poll-interval:5s}")
+    void releaseExpired() {
+        try {
+            ensureLoaded();
+        } catch (RuntimeException ex) {
+            log.warn("Booking hold store load failed, retrying on next release run: {}", ex.getMessage());
+            return;
+        }
+        List<Hold> expired = new ArrayList<>();
+        holds.drainTo(expired);
+        int batchSize = properties.getHolds().getReleaseBatchSize();
+        for (int from = 0; from < expired.size(); from += batchSize) {
+            List<Hold> batch = expired.subList(from, Math.min(from + batchSize, expired.size()));
+            try {
+                int released = bookingHoldReleaser.release(batch.stream().map(Hold::bookingId).toList());
+                if (released > 0) {
+                    log.info("Released {} expired booking holds", released);
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Releasing {} expired booking holds failed, retrying: {}", batch.size(), ex.getMessage());
+                holds.addAll(batch);
+            }
+        }
+        if (databaseSweepDue()) {
+            releaseExpiredFromDatabase();
+        }
+    }
+
+    private boolean databaseSweepDue() {
+        long now = System.nanoTime();
+        if (databaseSwept && now - lastDatabaseSweepNanos < properties.getHolds().getDatabaseSweepInterval().toNanos()) {
+            return false;
+        }
+        databaseSwept = true;
+        lastDatabaseSweepNanos = now;
+        return true;
+    }
+
+    private void releaseExpiredFromDatabase() {
+        int batchSize = properties.getHolds().getReleaseBatchSize();
+        try {
+            List<Long> bookingIds;
+            int released;
+            do {
+                bookingIds = bookingRepository.findExpiredHoldIds(LocalDateTime.now(), Limit.of(batchSize));
+                released = bookingIds.isEmpty() ? 0 : bookingHoldReleaser.release(bookingIds);
+                if (released > 0) {
+                    log.info("Released {} expired booking holds found in the database", released);
+                }
+            } while (bookingIds.size() == batchSize && released > 0);
+        } catch (RuntimeException ex) {
+            log.warn("Releasing expired booking holds from the database failed, retrying: {}", ex.getMessage());
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            List<HeldBooking> held = bookingRepository.findHeldBookings();
+            held.forEach(booking -> holds.add(new Hold(booking.bookingId(), booking.holdExpiresAt())));
+            loaded = true;
+            log.info("Booking hold store loaded {} holds", held.size());
+        }
+    }
+
+    private record Hold(Long bookingId, LocalDateTime expiresAt) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(LocalDateTime.now(), expiresAt));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return expiresAt.compareTo(((Hold) other).expiresAt);
+        }
+    }
+}
@@ -1,28 +1,41 @@
 package com.mini.soccer.service.booking;
 
+import com.mini.soccer.config.BookingProperties;
 import com.mini.soccer.dto.request.BookingRequest;
 import com.mini.soccer.dto.request.CancelBookingRequest;
 import com.mini.soccer.dto.request.PaymentRequest;
+import com.mini.soccer.dto.request.SeriesBookingRequest;
 import com.mini.soccer.dto.request.UpdatePaymentStatusRequest;
 import com.mini.soccer.dto.response.AdminBookingDetailResponse;
 import com.mini.soccer.dto.response.AdminBookingSummaryResponse;
 import com.mini.soccer.dto.response.BookingResponse;
+import com.mini.soccer.dto.response.CursorPageResponse;
 import com.mini.soccer.dto.response.PaymentResponse;
+import com.mini.soccer.dto.response.SeriesBookingResponse;
+import com.mini.soccer.enums.BookingScope;
 import com.mini.soccer.enums.BookingStatus;
 import com.mini.soccer.enums.PaymentMethod;
 import com.mini.soccer.enums.PaymentStatus;
+import com.mini.soccer.enums.RecurrenceFrequency;
 import com.mini.soccer.enums.UserRole;
 import com.mini.soccer.model.Booking;
 import com.mini.soccer.model.Field;
+import com.mini.soccer.model.Money;
 import com.mini.soccer.model.Payment;
 import com.mini.soccer.model.User;
 import com.mini.soccer.repository.BookingRepository;
-import com.mini.soccer.repository.FieldRepository;
 import com.mini.soccer.repository.PaymentRepository;
-import com.mini.soccer.repository.UserRepository;
 import com.mini.soccer.security.userdetails.AppUserDetails;
+import com.mini.soccer.service.code.ICodeGenerator;
+import com.mini.soccer.service.dashboard.FieldDailyRollups;
+import com.mini.soccer.service.field.FieldCatalog;
 import com.mini.soccer.service.payment.IVnPayService;
+import com.mini.soccer.service.pricing.PriceQuote;
+import com.mini.soccer.service.pricing.PricingEngine;
+import com.mini.soccer.service.user.UserDirectory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -35,16 +48,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 @Service
@@ -53,58 +67,136 @@ import java.util.stream.Collectors;
 public class BookingService implements IBookingService {
 
     // Statuses that block a time slot from being booked again.
-    private static final Set<BookingStatus> ACTIVE_BOOKING_STATUSES = EnumSet.of(
+    static final Set<BookingStatus> ACTIVE_BOOKING_STATUSES = EnumSet.of(
             BookingStatus.PENDING,
             BookingStatus.CONFIRMED
     );
+    private static final int MAX_SCROLL_PAGE_SIZE = 100;
+    private static final int MAX_USER_PAGE_SIZE = 500;
 
     private final BookingRepository bookingRepository;
-    private final FieldRepository fieldRepository;
-    private final UserRepository userRepository;
+    private final UserDirectory userDirectory;
+    private final FieldCatalog fieldCatalog;
     private final PaymentRepository paymentRepository;
     private final IVnPayService vnPayService;
+    private final BookingSlotIndex bookingSlotIndex;
+    private final FieldBookingLocks fieldBookingLocks;
+    private final BookingSlotClaims bookingSlotClaims;
+    private final BookingCodeIndex bookingCodeIndex;
+    private final FieldDailyRollups fieldDailyRollups;
+    private final BookingHoldStore bookingHoldStore;
+    private final ICodeGenerator codeGenerator;
+    private final PricingEngine pricingEngine;
+    private final UserBookingVersions userBookingVersions;
+    private final BookingProperties properties;
 
     @Override
     @Transactional
     public BookingResponse createBooking(BookingRequest request) {
         validateTimeRange(request.getStartTime(), request.getEndTime());
+        bookingSlotClaims.validateAlignment(request.getStartTime(), request.getEndTime());
 
         User user = getAuthenticatedUser();
 
-        Field field = fieldRepository.findById(request.getFieldId())
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Field not found"));
+        Field field = fieldCatalog.require(request.getFieldId());
 
-        boolean overlap = bookingRepository.existsOverlappingBooking(
-                field.getFieldId(),
-                ACTIVE_BOOKING_STATUSES,
-                request.getStartTime(),
-                request.getEndTime()
-        );
-        if (overlap) {
+        fieldBookingLocks.lockUntilCompletion(field.getFieldId());
+        if (bookingSlotIndex.confirmedOverlaps(field.getFieldId(), request.getStartTime(), request.getEndTime())) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Time slot is already booked");
         }
 
-        BigDecimal totalAmount = calculateTotalAmount(field.getPricePerHour(), request.getStartTime(), request.getEndTime());
-        Booking booking = Booking.builder()
-                .user(user)
-                .field(field)
-                .startTime(request.getStartTime())
-                .endTime(request.getEndTime())
-                .priceAtBooking(field.getPricePerHour())
-                .totalAmount(totalAmount)
-                .bookingCode(generateBookingCode())
-                .status(BookingStatus.CONFIRMED)
-                .createdAt(LocalDateTime.now())
-                .build();
+        Booking booking = newBooking(user, field, request.getStartTime(), request.getEndTime(),
+                codeGenerator.nextBookingCode(), LocalDateTime.now());
 
         Booking saved = bookingRepository.save(booking);
+        claimSlots(List.of(saved));
+        fieldDailyRollups.bookingsCreated(List.of(saved));
+        userBookingVersions.bump(user.getUserId());
+        bookingSlotIndex.track(saved);
+        bookingCodeIndex.track(saved);
         return toBookingResponse(saved, null);
     }
 
+    @Override
+    @Transactional
+    public SeriesBookingResponse createSeriesBooking(SeriesBookingRequest request) {
+        validateTimeRange(request.getStartTime(), request.getEndTime());
+        bookingSlotClaims.validateAlignment(request.getStartTime(), request.getEndTime());
+        Duration duration = Duration.between(request.getStartTime(), request.getEndTime());
+        List<LocalDateTime> occurrenceStarts = expandOccurrences(request, duration);
+
+        User user = getAuthenticatedUser();
+
+        Field field = fieldCatalog.require(request.getFieldId());
+
+        fieldBookingLocks.lockUntilCompletion(field.getFieldId());
+        String conflictingDates = occurrenceStarts.stream()
+                .filter(start -> bookingSlotIndex.confirmedOverlaps(field.getFieldId(), start, start.plus(duration)))
+                .map(start -> start.toLocalDate().toString())
+                .collect(Collectors.joining(", "));
+        if (!conflictingDates.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Time slot is already booked on " + conflictingDates);
+        }
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Booking> bookings = new ArrayList<>();
+        for (LocalDateTime start : occurrenceStarts) {
+            bookings.add(newBooking(user, field, start, start.plus(duration), codeGenerator.nextBookingCode(), createdAt));
+        }
+
+        // Table-generated ids let Hibernate send these inserts as one JDBC batch.
+        List<Booking> saved = bookingRepository.saveAll(bookings);
+        bookingRepository.flush();
+        claimSlots(saved);
+        fieldDailyRollups.bookingsCreated(saved);
+        userBookingVersions.bump(user.getUserId());
+        saved.forEach(bookingSlotIndex::track);
+        saved.forEach(bookingCodeIndex::track);
+
+        Money totalAmount = saved.stream()
+                .map(Booking::getTotalAmount)
+                .reduce(Money.ZERO, Money::plus);
+        return SeriesBookingResponse.builder()
+                .fieldId(field.getFieldId())
+                .fieldName(field.getName())
+                .occurrences(saved.size())
+                .totalAmount(totalAmount)
+                .bookings(saved.stream()
+                        .map(booking -> toBookingResponse(booking, null))
+                        .toList())
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public Optional<BookingResponse> holdSlotForWaitlist(Long userId, Long fieldId,
+                                                         LocalDateTime start, LocalDateTime end,
+                                                         LocalDateTime holdUntil) {
+        User user = userDirectory.findById(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
+        Field field = fieldCatalog.require(fieldId);
+
+        fieldBookingLocks.lockUntilCompletion(fieldId);
+        if (bookingSlotIndex.confirmedOverlaps(fieldId, start, end)) {
+            return Optional.empty();
+        }
+
+        Booking saved = bookingRepository.save(newBooking(user, field, start, end,
+                codeGenerator.nextBookingCode(), LocalDateTime.now()));
+        // Still before the insert is flushed, so the row is written as PENDING with its hold.
+        bookingHoldStore.hold(saved, holdUntil);
+        claimSlots(List.of(saved));
+        fieldDailyRollups.bookingsCreated(List.of(saved));
+        userBookingVersions.bump(userId);
+        bookingSlotIndex.track(saved);
+        bookingCodeIndex.track(saved);
+        return Optional.of(toBookingResponse(saved, null));
+    }
+
     @Override
     @Transactional
     public BookingResponse cancelBooking(Long bookingId, CancelBookingRequest request) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findByIdForUpdate(bookingId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking not found"));
 
         AppUserDetails principal = getCurrentUserDetails();
@@ -124,9 +216,14 @@ public class BookingService implements IBookingService {
         booking.setCancellationReason(normalizeCancellationReason(request.getReason()));
         booking.setCancelledAt(LocalDateTime.now());
         bookingRepository.save(booking);
+        bookingSlotClaims.release(booking.getBookingId());
+        fieldDailyRollups.bookingCancelled(booking);
+        userBookingVersions.bump(booking.getUser().getUserId());
+        bookingSlotIndex.track(booking);
 
         Payment updatedPayment = paymentRepository.findByBooking_BookingId(bookingId)
                 .map(payment -> {
+                    PaymentStatus previousStatus = payment.getStatus();
                     if (PaymentStatus.PAID.equals(payment.getStatus())) {
                         payment.setStatus(PaymentStatus.REFUND_PENDING);
                         payment.setRefundedAt(null);
@@ -135,6 +232,8 @@ public class BookingService implements IBookingService {
                     } else if (PaymentStatus.REFUND_PENDING.equals(payment.getStatus())) {
                         payment.setRefundedAt(null);
                     }
+                    fieldDailyRollups.paymentChanged(booking, previousStatus, payment.getAmount(),
+                            payment.getStatus(), payment.getAmount());
                     return paymentRepository.save(payment);
                 })
                 .orElse(null);
@@ -145,7 +244,7 @@ public class BookingService implements IBookingService {
     @Override
     @Transactional
     public PaymentResponse payForBooking(Long bookingId, PaymentRequest request, String clientIp) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findByIdForUpdate(bookingId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking not found"));
 
         ensureOwnershipOrAdmin(booking.getUser().getUserId());
@@ -155,15 +254,17 @@ public class BookingService implements IBookingService {
         }
 
         Payment payment = paymentRepository.findByBooking_BookingId(bookingId).orElse(null);
+        PaymentStatus previousStatus = payment != null ? payment.getStatus() : null;
+        Money previousAmount = payment != null ? payment.getAmount() : null;
         if (payment != null && PaymentStatus.PAID.equals(payment.getStatus())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Booking has already been paid");
         }
 
-        BigDecimal amount = request.getAmount() != null
-                ? request.getAmount().setScale(2, RoundingMode.HALF_UP)
+        Money amount = request.getAmount() != null
+                ? Money.of(request.getAmount())
                 : booking.getTotalAmount();
 
-        if (amount.compareTo(booking.getTotalAmount()) != 0) {
+        if (!amount.equals(booking.getTotalAmount())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Payment amount must match booking total");
         }
 
@@ -171,14 +272,16 @@ public class BookingService implements IBookingService {
                 ? request.getPaymentMethod()
                 : PaymentMethod.COD;
 
-        String transactionCode = request.getTransactionCode();
-        transactionCode = transactionCode != null && !transactionCode.isBlank()
-                ? transactionCode.toUpperCase()
-                : generateTransactionCode();
-
-        if ((payment == null || !transactionCode.equalsIgnoreCase(payment.getTransactionCode()))
-                && paymentRepository.existsByTransactionCode(transactionCode)) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Transaction code already exists");
+        String transactionCode;
+        if (request.getTransactionCode() != null && !request.getTransactionCode().isBlank()) {
+            transactionCode = request.getTransactionCode().toUpperCase();
+            if ((payment == null || !transactionCode.equalsIgnoreCase(payment.getTransactionCode()))
+                    && paymentRepository.existsByTransactionCode(transactionCode)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Transaction code already exists");
+            }
+        } else {
+            // Generated codes are unique by construction; only client-supplied codes need a lookup.
+            transactionCode = codeGenerator.nextTransactionCode();
         }
 
         Payment target = payment != null ? payment : new Payment();
@@ -197,19 +300,24 @@ public class BookingService implements IBookingService {
             target.setPaidAt(null);
             target.setVnpTxnRef(transactionCode);
             target.setVnpOrderInfo(orderInfo);
+            // Keep the slot only for as long as the payment link is valid.
+            bookingHoldStore.hold(booking);
+            target.setExpiresAt(booking.getHoldExpiresAt());
         } else {
             target.setStatus(PaymentStatus.PENDING);
             target.setPaidAt(null);
             target.setVnpTxnRef(null);
             target.setVnpOrderInfo(null);
+            target.setExpiresAt(null);
+            booking.setStatus(BookingStatus.CONFIRMED);
+            booking.setHoldExpiresAt(null);
         }
 
         Payment saved = paymentRepository.save(target);
-
-        if (paymentMethod != PaymentMethod.VNPAY) {
-            booking.setStatus(BookingStatus.CONFIRMED);
-            bookingRepository.save(booking);
-        }
+        fieldDailyRollups.paymentChanged(booking, previousStatus, previousAmount, saved.getStatus(), saved.getAmount());
+        userBookingVersions.bump(booking.getUser().getUserId());
+        bookingRepository.save(booking);
+        bookingSlotIndex.track(booking);
 
         return toPaymentResponse(saved, paymentUrl);
     }
@@ -228,39 +336,132 @@ public class BookingService implements IBookingService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking not found"));
 
         Payment payment = paymentRepository.findByBooking_BookingId(bookingId).orElse(null);
+        PaymentStatus previousStatus = payment != null ? payment.getStatus() : null;
+        Money previousAmount = payment != null ? payment.getAmount() : null;
         Payment updated = applyPaymentStatusUpdate(booking, payment, request);
         Payment saved = paymentRepository.save(updated);
+        fieldDailyRollups.paymentChanged(booking, previousStatus, previousAmount, saved.getStatus(), saved.getAmount());
+        userBookingVersions.bump(booking.getUser().getUserId());
         return toPaymentResponse(saved, null);
     }
 
     @Override
-    public List<BookingResponse> getCurrentUserBookings() {
+    public String getCurrentUserBookingsETag(BookingScope scope) {
         AppUserDetails principal = getCurrentUserDetails();
-        List<Booking> bookings = bookingRepository.findByUser_UserIdOrderByStartTimeDesc(principal.getUserId());
+        String tag = "bookings-" + principal.getUserId()
+                + "-" + userBookingVersions.current(principal.getUserId())
+                + "-" + fieldCatalog.version()
+                + "-" + scope;
+        if (scope == BookingScope.ALL) {
+            return tag;
+        }
+        // Booking times are slot-aligned, so UPCOMING/PAST only change membership at slot boundaries.
+        long slot = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC) / 60 / properties.getSlotMinutes();
+        return tag + "-" + slot;
+    }
+
+    @Override
+    public CursorPageResponse<BookingResponse> getCurrentUserBookings(BookingScope scope, String cursor, int size) {
+        AppUserDetails principal = getCurrentUserDetails();
+        int pageSize = Math.clamp(size, 1, MAX_USER_PAGE_SIZE);
+        boolean hasCursor = cursor != null && !cursor.isBlank();
+        Limit limit = Limit.of(pageSize + 1);
+        LocalDateTime now = LocalDateTime.now();
+        List<Booking> rows = switch (scope) {
+            case UPCOMING -> {
+                BookingCursor after = hasCursor ? BookingCursor.decode(cursor) : BookingCursor.EARLIEST;
+                yield bookingRepository.findUserUpcomingPageAfter(
+                        principal.getUserId(), now, after.time(), after.bookingId(), limit);
+            }
+            case PAST -> {
+                BookingCursor before = hasCursor ? BookingCursor.decode(cursor) : BookingCursor.LATEST;
+                yield bookingRepository.findUserPastPageBefore(
+                        principal.getUserId(), now, before.time(), before.bookingId(), limit);
+            }
+            case ALL -> {
+                BookingCursor before = hasCursor ? BookingCursor.decode(cursor) : BookingCursor.LATEST;
+                yield bookingRepository.findUserPageBefore(
+                        principal.getUserId(), before.time(), before.bookingId(), limit);
+            }
+        };
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Booking> bookings = hasNext ? rows.subList(0, pageSize) : rows;
         List<Long> bookingIds = bookings.stream()
                 .map(Booking::getBookingId)
                 .toList();
         var payments = mapPaymentsByBookingId(bookingIds);
-        return bookings.stream()
-                .map(booking -> toBookingResponse(booking, payments.get(booking.getBookingId())))
-                .toList();
+        String nextCursor = null;
+        if (hasNext) {
+            Booking last = bookings.get(bookings.size() - 1);
+            nextCursor = new BookingCursor(last.getStartTime(), last.getBookingId()).encode();
+        }
+        return CursorPageResponse.<BookingResponse>builder()
+                .items(bookings.stream()
+                        .map(booking -> toBookingResponse(booking, payments.get(booking.getBookingId())))
+                        .toList())
+                .size(pageSize)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     @Override
     public Page<AdminBookingSummaryResponse> getAdminBookings(String bookingCode, Pageable pageable) {
         Pageable effectivePageable = ensureSort(pageable);
-        Page<Booking> bookings;
-        if (bookingCode != null && !bookingCode.isBlank()) {
-            bookings = bookingRepository.findByBookingCodeContainingIgnoreCase(bookingCode.trim(), effectivePageable);
+        if (bookingCode == null || bookingCode.isBlank()) {
+            return bookingRepository.findAdminSummaries(effectivePageable);
+        }
+        Optional<List<Long>> matchingIds = bookingCodeIndex.search(bookingCode.trim());
+        if (matchingIds.isEmpty()) {
+            return bookingRepository.findAdminSummariesByBookingCode(bookingCode.trim(), effectivePageable);
+        }
+        if (matchingIds.get().isEmpty()) {
+            return Page.empty(effectivePageable);
+        }
+        return bookingRepository.findAdminSummariesByIds(matchingIds.get(), effectivePageable);
+    }
+
+    @Override
+    public CursorPageResponse<AdminBookingSummaryResponse> scrollAdminBookings(String bookingCode, String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_SCROLL_PAGE_SIZE);
+        BookingCursor after = cursor == null || cursor.isBlank() ? BookingCursor.LATEST : BookingCursor.decode(cursor);
+        // One extra row tells whether another page exists without counting.
+        Limit limit = Limit.of(pageSize + 1);
+        List<AdminBookingSummaryResponse> rows;
+        if (bookingCode == null || bookingCode.isBlank()) {
+            rows = bookingRepository.findAdminSummariesBefore(after.time(), after.bookingId(), limit);
         } else {
-            bookings = bookingRepository.findAll(effectivePageable);
+            Optional<List<Long>> matchingIds = bookingCodeIndex.search(bookingCode.trim());
+            if (matchingIds.isEmpty()) {
+                rows = bookingRepository.findAdminSummariesByBookingCodeBefore(
+                        bookingCode.trim(), after.time(), after.bookingId(), limit);
+            } else if (matchingIds.get().isEmpty()) {
+                rows = List.of();
+            } else {
+                rows = bookingRepository.findAdminSummariesByIdsBefore(
+                        matchingIds.get(), after.time(), after.bookingId(), limit);
+            }
         }
-        return bookings.map(this::toAdminBookingSummary);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<AdminBookingSummaryResponse> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            AdminBookingSummaryResponse last = page.get(page.size() - 1);
+            nextCursor = new BookingCursor(last.getCreatedAt(), last.getBookingId()).encode();
+        }
+        return CursorPageResponse.<AdminBookingSummaryResponse>builder()
+                .items(page)
+                .size(pageSize)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     @Override
     public AdminBookingDetailResponse getAdminBookingDetail(Long bookingId) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findWithUserAndFieldById(bookingId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking not found"));
         Payment payment = paymentRepository.findByBooking_BookingId(bookingId).orElse(null);
         return toAdminBookingDetail(booking, payment);
@@ -277,9 +478,54 @@ public class BookingService implements IBookingService {
         );
     }
 
+    private Booking newBooking(User user, Field field, LocalDateTime start, LocalDateTime end,
+                               String bookingCode, LocalDateTime createdAt) {
+        PriceQuote quote = pricingEngine.quote(field.getFieldId(), start, end);
+        return Booking.builder()
+                .user(user)
+                .field(field)
+                .startTime(start)
+                .endTime(end)
+                .priceAtBooking(quote.pricePerHour())
+                .totalAmount(quote.totalAmount())
+                .bookingCode(bookingCode)
+                .status(BookingStatus.CONFIRMED)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private List<LocalDateTime> expandOccurrences(SeriesBookingRequest request, Duration duration) {
+        Period step = request.getFrequency() == RecurrenceFrequency.WEEKLY
+                ? Period.ofWeeks(request.getInterval())
+                : Period.ofDays(request.getInterval());
+        if (duration.compareTo(Duration.ofDays(step.getDays())) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Occurrences of a series must not overlap each other");
+        }
+        List<LocalDateTime> starts = new ArrayList<>();
+        LocalDateTime start = request.getStartTime();
+        for (int i = 0; i < request.getOccurrences(); i++) {
+            starts.add(start);
+            start = start.plus(step);
+        }
+        return starts;
+    }
+
+    private void claimSlots(List<Booking> bookings) {
+        try {
+            bookingSlotClaims.claim(bookings);
+        } catch (DuplicateKeyException ex) {
+            // Claimed through another node; resync this field so the next attempt is rejected in memory.
+            bookingSlotIndex.refresh(
+                    bookings.get(0).getField().getFieldId(),
+                    bookings.stream().map(Booking::getBookingId).toList()
+            );
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Time slot is already booked");
+        }
+    }
+
     private User getAuthenticatedUser() {
         AppUserDetails principal = getCurrentUserDetails();
-        return userRepository.findById(principal.getUserId())
+        return userDirectory.findById(principal.getUserId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
     }
 
@@ -334,28 +580,6 @@ public class BookingService implements IBookingService {
         }
     }
 
-    private BigDecimal calculateTotalAmount(BigDecimal pricePerHour, LocalDateTime start, LocalDateTime end) {
-        long minutes = Duration.between(start, end).toMinutes();
-        if (minutes <= 0) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Duration must be greater than zero");
-        }
-        BigDecimal hours = BigDecimal.valueOf(minutes)
-                .divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP);
-        return pricePerHour.multiply(hours).setScale(2, RoundingMode.HALF_UP);
-    }
-
-    private String generateBookingCode() {
-        String code;
-        do {
-            code = "BK" + ThreadLocalRandom.current().nextInt(100000, 999999);
-        } while (bookingRepository.existsByBookingCode(code));
-        return code;
-    }
-
-    private String generateTransactionCode() {
-        return "TX" + ThreadLocalRandom.current().nextInt(100000, 999999);
-    }
-
     private BookingResponse toBookingResponse(Booking booking, Payment payment) {
         return BookingResponse.builder()
                 .bookingId(booking.getBookingId())
@@ -391,25 +615,6 @@ public class BookingService implements IBookingService {
                 .build();
     }
 
-    private AdminBookingSummaryResponse toAdminBookingSummary(Booking booking) {
-        return AdminBookingSummaryResponse.builder()
-                .bookingId(booking.getBookingId())
-                .bookingCode(booking.getBookingCode())
-                .status(booking.getStatus().name())
-                .startTime(booking.getStartTime())
-                .endTime(booking.getEndTime())
-                .totalAmount(booking.getTotalAmount())
-                .createdAt(booking.getCreatedAt())
-                .userId(booking.getUser().getUserId())
-                .userFullName(booking.getUser().getFullName())
-                .userPhoneNumber(booking.getUser().getPhoneNumber())
-                .fieldId(booking.getField().getFieldId())
-                .fieldName(booking.getField().getName())
-                .cancelledAt(booking.getCancelledAt())
-                .cancellationReason(booking.getCancellationReason())
-                .build();
-    }
-
     private AdminBookingDetailResponse toAdminBookingDetail(Booking booking, Payment payment) {
         return AdminBookingDetailResponse.builder()
                 .bookingId(booking.getBookingId())
@@ -462,6 +667,7 @@ public class BookingService implements IBookingService {
                     paidPayment.setPaidAt(LocalDateTime.now());
                 }
                 paidPayment.setRefundedAt(null);
+                paidPayment.setExpiresAt(null);
                 yield paidPayment;
             }
             case REFUND_PENDING -> {
@@ -478,6 +684,8 @@ public class BookingService implements IBookingService {
                 }
                 yield refunded;
             }
+            case EXPIRED -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Payments expire automatically and cannot be set to EXPIRED");
         };
     }
 
@@ -492,11 +700,7 @@ public class BookingService implements IBookingService {
         payment.setBooking(booking);
         payment.setAmount(booking.getTotalAmount());
         payment.setPaymentMethod(overrideMethod != null ? overrideMethod : PaymentMethod.COD);
-        String transactionCode = generateTransactionCode();
-        while (paymentRepository.existsByTransactionCode(transactionCode)) {
-            transactionCode = generateTransactionCode();
-        }
-        payment.setTransactionCode(transactionCode);
+        payment.setTransactionCode(codeGenerator.nextTransactionCode());
         payment.setVnpTxnRef(null);
         payment.setVnpOrderInfo(null);
         payment.setVnpResponseCode(null);
@@ -0,0 +1,88 @@
+package com.mini.soccer.service.booking;
+
+import com.mini.soccer.config.BookingProperties;
+import com.mini.soccer.model.Booking;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Claims fixed-length slots in the {@code booking_slots} table, whose unique key on
+ * (field_id, slot_start) rejects double bookings across every application node.
+ * Runs on the caller's transaction, so claims roll back and release with the booking.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingSlotClaims {
+
+    private static final String INSERT_CLAIM_SQL =
+            "insert into booking_slots (field_id, slot_start, booking_id) values (?, ?, ?)";
+    private static final String DELETE_CLAIMS_SQL =
+            "delete from booking_slots where booking_id = ?";
+    private static final String ANY_CLAIMED_SQL = """
+            select count(*) from booking_slots
+            where field_id = ? and slot_start >= ? and slot_start < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BookingProperties properties;
+
+    public void validateAlignment(LocalDateTime start, LocalDateTime end) {
+        if (!isAligned(start) || !isAligned(end)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Booking times must align to " + properties.getSlotMinutes() + "-minute slots");
+        }
+    }
+
+    /**
+     * Inserts one claim per slot covered by the bookings in a single JDBC batch.
+     *
+     * @throws DuplicateKeyException if any slot is already claimed
+     */
+    public void claim(List<Booking> bookings) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Booking booking : bookings) {
+            Long fieldId = booking.getField().getFieldId();
+            for (LocalDateTime slot = booking.getStartTime();
+                 slot.isBefore(booking.getEndTime());
+                 slot = slot.plusMinutes(properties.getSlotMinutes())) {
+                rows.add(new Object[]{fieldId, slot, booking.getBookingId()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_CLAIM_SQL, rows);
+    }
+
+    /**
+     * Whether any slot of the aligned range {@code [start, end)} is claimed. Reads the
+     * primary key range only.
+     */
+    public boolean anyClaimed(Long fieldId, LocalDateTime start, LocalDateTime end) {
+        Integer claimed = jdbcTemplate.queryForObject(ANY_CLAIMED_SQL, Integer.class, fieldId, start, end);
+        return claimed != null && claimed > 0;
+    }
+
+    public void release(Long bookingId) {
+        jdbcTemplate.update(DELETE_CLAIMS_SQL, bookingId);
+    }
+
+    public void release(Collection<Long> bookingIds) {
+        jdbcTemplate.batchUpdate(DELETE_CLAIMS_SQL, bookingIds.stream()
+                .map(bookingId -> new Object[]{bookingId})
+                .toList());
+    }
+
+    private boolean isAligned(LocalDateTime time) {
+        int minuteOfDay = time.getHour() * 60 + time.getMinute();
+        return time.getSecond() == 0
+                && time.getNano() == 0
+                && minuteOfDay % properties.getSlotMinutes() == 0;
+    }
+}
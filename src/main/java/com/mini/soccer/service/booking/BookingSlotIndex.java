@@ -0,0 +1,363 @@
+package com.mini.soccer.service.booking;
+
+import com.mini.soccer.model.Booking;
+import com.mini.soccer.repository.BookingRepository;
+import com.mini.soccer.repository.projection.BookedSlot;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory interval index of the active (PENDING/CONFIRMED) bookings per field.
+ * A miss lets a booking go straight to claiming its slots, where the database is the
+ * final guard; a hit may be stale and is confirmed against {@code booking_slots}
+ * before a caller rejects anything. Changes made on other nodes are picked up by
+ * polling {@link BookingSlotVersions} and reloading the fields that moved; versions
+ * this node wrote itself are recorded on commit so they do not trigger a reload.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingSlotIndex {
+
+    private static final Comparator<BookedSlot> BY_START = Comparator
+            .comparing(BookedSlot::startTime)
+            .thenComparing(BookedSlot::bookingId);
+
+    private final BookingRepository bookingRepository;
+    private final BookingSlotClaims bookingSlotClaims;
+    private final BookingSlotVersions bookingSlotVersions;
+    private final Map<Long, FieldSlots> slotsByField = new ConcurrentHashMap<>();
+    private final Map<Long, Long> knownVersions = new ConcurrentHashMap<>();
+    private final List<SlotListener> listeners = new CopyOnWriteArrayList<>();
+    private volatile boolean loaded;
+
+    @PostConstruct
+    void warmUp() {
+        try {
+            ensureLoaded();
+        } catch (RuntimeException ex) {
+            log.warn("Booking slot index warm-up failed, retrying on first use: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Whether the index knows of an overlapping booking. Only a {@code false} answer
+     * can be acted on directly; use {@link #confirmedOverlaps} before rejecting.
+     */
+    public boolean overlaps(Long fieldId, LocalDateTime start, LocalDateTime end) {
+        ensureLoaded();
+        FieldSlots slots = slotsByField.get(fieldId);
+        return slots != null && slots.overlaps(start, end);
+    }
+
+    /**
+     * Overlap check whose {@code true} answer is confirmed by the database. Misses are
+     * still answered from memory; callers that act on them must claim the slots.
+     */
+    public boolean confirmedOverlaps(Long fieldId, LocalDateTime start, LocalDateTime end) {
+        return overlaps(fieldId, start, end) && overlapsInDatabase(fieldId, start, end);
+    }
+
+    /**
+     * Overlap check answered by {@code booking_slots}, for callers that act on either
+     * answer. The field is resynced when the index disagrees.
+     */
+    public boolean overlapsInDatabase(Long fieldId, LocalDateTime start, LocalDateTime end) {
+        boolean claimed = bookingSlotClaims.anyClaimed(fieldId, start, end);
+        if (claimed != overlaps(fieldId, start, end)) {
+            log.debug("Booking slot index was stale for field {}, reloading it", fieldId);
+            refresh(fieldId, List.of());
+        }
+        return claimed;
+    }
+
+    /**
+     * Active slots of the field that overlap {@code [from, to)}, ordered by start time.
+     */
+    public List<BookedSlot> slotsBetween(Long fieldId, LocalDateTime from, LocalDateTime to) {
+        ensureLoaded();
+        FieldSlots slots = slotsByField.get(fieldId);
+        return slots != null ? slots.between(from, to) : List.of();
+    }
+
+    public void addListener(SlotListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Reflects the booking's current status in the index once the surrounding
+     * transaction commits, so rolled-back writes never leak into it.
+     */
+    public void track(Booking booking) {
+        BookedSlot slot = new BookedSlot(
+                booking.getBookingId(),
+                booking.getField().getFieldId(),
+                booking.getStartTime(),
+                booking.getEndTime()
+        );
+        track(slot, BookingService.ACTIVE_BOOKING_STATUSES.contains(booking.getStatus()));
+    }
+
+    /**
+     * Same as {@link #track(Booking)} for callers that changed the booking with bulk SQL.
+     */
+    public void track(BookedSlot slot, boolean active) {
+        bumpVersionBeforeCommit(slot.fieldId());
+        afterCommit(() -> {
+            if (active) {
+                fieldSlots(slot.fieldId()).add(slot);
+            } else {
+                fieldSlots(slot.fieldId()).remove(slot.bookingId());
+            }
+            listeners.forEach(listener -> listener.slotChanged(slot, active));
+        });
+    }
+
+    /**
+     * Reloads a single field from the database, e.g. after another node booked a
+     * slot this index did not know about. Rows written by the caller's own, about to
+     * be rolled back, transaction are passed in so they are left out.
+     */
+    public void refresh(Long fieldId, Collection<Long> uncommittedBookingIds) {
+        List<BookedSlot> slots = bookingRepository.findActiveSlotsByFieldEndingAfter(
+                        fieldId,
+                        BookingService.ACTIVE_BOOKING_STATUSES,
+                        LocalDateTime.now()
+                ).stream()
+                .filter(slot -> !uncommittedBookingIds.contains(slot.bookingId()))
+                .toList();
+        fieldSlots(fieldId).replaceAll(slots);
+        listeners.forEach(listener -> listener.fieldReloaded(fieldId));
+    }
+
+    @Scheduled(fixedDelayString = "${booking.slot-index.refresh-interval:5s}",
+            initialDelayString = "${booking.slot-index.refresh-interval:5s}")
+    void resyncChangedFields() {
+        try {
+            if (!loaded) {
+                ensureLoaded();
+                return;
+            }
+            // Versions are read before the reload, so a change racing it is reloaded again next time.
+            bookingSlotVersions.all().forEach((fieldId, version) -> {
+                if (!version.equals(knownVersions.get(fieldId))) {
+                    refresh(fieldId, List.of());
+                    knownVersions.put(fieldId, version);
+                }
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Booking slot index resync failed, keeping the current slots: {}", ex.getMessage());
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            knownVersions.putAll(bookingSlotVersions.all());
+            List<BookedSlot> slots = bookingRepository.findActiveSlotsEndingAfter(
+                    BookingService.ACTIVE_BOOKING_STATUSES,
+                    LocalDateTime.now()
+            );
+            slots.forEach(slot -> fieldSlots(slot.fieldId()).add(slot));
+            loaded = true;
+            log.info("Booking slot index loaded {} active slots", slots.size());
+        }
+    }
+
+    private FieldSlots fieldSlots(Long fieldId) {
+        return slotsByField.computeIfAbsent(fieldId, id -> new FieldSlots());
+    }
+
+    /**
+     * Bumps the field's version once per transaction, just before it commits, with all
+     * fields of the transaction in one sorted batch.
+     */
+    private void bumpVersionBeforeCommit(Long fieldId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordOwnVersions(bookingSlotVersions.bump(List.of(fieldId)));
+            return;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingVersionBumps pending) {
+                pending.fieldIds.add(fieldId);
+                return;
+            }
+        }
+        PendingVersionBumps pending = new PendingVersionBumps();
+        pending.fieldIds.add(fieldId);
+        TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+
+    // Only a version one past the known one is this node's change alone; any other gap
+    // includes a change made elsewhere, which the next resync must still reload.
+    private void recordOwnVersions(Map<Long, Long> written) {
+        written.forEach((fieldId, version) -> {
+            if (version == 1) {
+                knownVersions.putIfAbsent(fieldId, version);
+            } else {
+                knownVersions.replace(fieldId, version - 1, version);
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private final class PendingVersionBumps implements TransactionSynchronization {
+
+        private final Set<Long> fieldIds = new TreeSet<>();
+        private Map<Long, Long> written = Map.of();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            written = bookingSlotVersions.bump(fieldIds);
+        }
+
+        @Override
+        public void afterCommit() {
+            recordOwnVersions(written);
+        }
+    }
+
+    public interface SlotListener {
+
+        void slotChanged(BookedSlot slot, boolean active);
+
+        void fieldReloaded(Long fieldId);
+    }
+
+    private static BookedSlot probe(LocalDateTime time) {
+        return new BookedSlot(Long.MIN_VALUE, null, time, time);
+    }
+
+    private static final class FieldSlots {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final NavigableSet<BookedSlot> byStart = new TreeSet<>(BY_START);
+        private final Map<Long, BookedSlot> byBookingId = new HashMap<>();
+        // Longest booking seen so far; bounds how far back an overlapping slot can start.
+        private Duration longest = Duration.ZERO;
+
+        boolean overlaps(LocalDateTime start, LocalDateTime end) {
+            lock.readLock().lock();
+            try {
+                for (BookedSlot slot : byStart.subSet(probe(start.minus(longest)), true, probe(end), false)) {
+                    if (slot.endTime().isAfter(start)) {
+                        return true;
+                    }
+                }
+                return false;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<BookedSlot> between(LocalDateTime from, LocalDateTime to) {
+            lock.readLock().lock();
+            try {
+                List<BookedSlot> result = new ArrayList<>();
+                for (BookedSlot slot : byStart.subSet(probe(from.minus(longest)), true, probe(to), false)) {
+                    if (slot.endTime().isAfter(from)) {
+                        result.add(slot);
+                    }
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void add(BookedSlot slot) {
+            lock.writeLock().lock();
+            try {
+                removeInternal(slot.bookingId());
+                byStart.add(slot);
+                byBookingId.put(slot.bookingId(), slot);
+                Duration duration = Duration.between(slot.startTime(), slot.endTime());
+                if (duration.compareTo(longest) > 0) {
+                    longest = duration;
+                }
+                pruneEnded();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long bookingId) {
+            lock.writeLock().lock();
+            try {
+                removeInternal(bookingId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void replaceAll(List<BookedSlot> slots) {
+            lock.writeLock().lock();
+            try {
+                byStart.clear();
+                byBookingId.clear();
+                slots.forEach(slot -> {
+                    byStart.add(slot);
+                    byBookingId.put(slot.bookingId(), slot);
+                    Duration duration = Duration.between(slot.startTime(), slot.endTime());
+                    if (duration.compareTo(longest) > 0) {
+                        longest = duration;
+                    }
+                });
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void removeInternal(Long bookingId) {
+            BookedSlot existing = byBookingId.remove(bookingId);
+            if (existing != null) {
+                byStart.remove(existing);
+            }
+        }
+
+        // Slots starting more than `longest` ago have all ended and can never overlap a new booking.
+        private void pruneEnded() {
+            NavigableSet<BookedSlot> ended = byStart.headSet(probe(LocalDateTime.now().minus(longest)), false);
+            ended.forEach(slot -> byBookingId.remove(slot.bookingId()));
+            ended.clear();
+        }
+    }
+}
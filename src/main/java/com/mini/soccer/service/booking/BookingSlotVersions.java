@@ -0,0 +1,67 @@
+package com.mini.soccer.service.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-field change counters in {@code booking_slot_versions}, bumped on the caller's
+ * transaction whenever a booking of the field is created or leaves the active
+ * statuses. Every node polls them to resync the fields of its {@link BookingSlotIndex}
+ * that were changed elsewhere.
+ * <p>
+ * A bump holds the field's row lock until the transaction commits, so booking
+ * transactions on the same field commit one at a time across all nodes. The bump is
+ * issued just before commit to keep that window short.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingSlotVersions {
+
+    private static final String SELECT_ALL_SQL = "select field_id, version from booking_slot_versions";
+    private static final String BUMP_SQL = """
+            insert into booking_slot_versions (field_id, version) values (?, 1)
+            on duplicate key update version = version + 1
+            """;
+
+    private static final String SELECT_SQL = "select field_id, version from booking_slot_versions where field_id in (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<Long, Long> all() {
+        Map<Long, Long> versions = new HashMap<>();
+        jdbcTemplate.query(SELECT_ALL_SQL, rs -> {
+            versions.put(rs.getLong(1), rs.getLong(2));
+        });
+        return versions;
+    }
+
+    /**
+     * Increments the versions of the fields and returns the values written, read back
+     * under the row locks the bump holds.
+     */
+    public Map<Long, Long> bump(Collection<Long> fieldIds) {
+        // Sorted so concurrent multi-field bumps lock rows in the same order.
+        List<Long> sorted = fieldIds.stream()
+                .distinct()
+                .sorted()
+                .toList();
+        if (sorted.isEmpty()) {
+            return Map.of();
+        }
+        jdbcTemplate.batchUpdate(BUMP_SQL, sorted.stream()
+                .map(fieldId -> new Object[]{fieldId})
+                .toList());
+        Map<Long, Long> written = new HashMap<>();
+        jdbcTemplate.query(SELECT_SQL.formatted(String.join(",", Collections.nCopies(sorted.size(), "?"))), rs -> {
+            written.put(rs.getLong(1), rs.getLong(2));
+        }, sorted.toArray());
+        return written;
+    }
+}
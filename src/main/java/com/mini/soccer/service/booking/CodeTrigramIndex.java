@@ -0,0 +1,188 @@
+package com.mini.soccer.service.booking;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Substring index over short alphanumeric codes. Every code is split into its
+ * trigrams; a query is answered by scanning the shortest posting list among the
+ * query's trigrams and checking each candidate code for the full substring.
+ * Codes are stored as fixed-width bytes to keep millions of entries compact, and
+ * each booking id is indexed at most once.
+ */
+public class CodeTrigramIndex {
+
+    static final int MIN_QUERY_LENGTH = 3;
+
+    private static final int CODE_WIDTH = 10;
+    private static final int ALPHABET = 36;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int[][] postings = new int[ALPHABET * ALPHABET * ALPHABET][];
+    private final int[] postingSizes = new int[postings.length];
+    private byte[] codes = new byte[CODE_WIDTH * INITIAL_CAPACITY];
+    private long[] bookingIds = new long[INITIAL_CAPACITY];
+    // Open-addressing table of ordinal + 1 by booking id; 0 marks a free slot.
+    private int[] ordinalsById = new int[INITIAL_CAPACITY * 2];
+    private int size;
+
+    /**
+     * Indexes the code under the booking id; {@code false} if the id is already
+     * indexed or the code is too long.
+     */
+    public boolean add(long bookingId, String code) {
+        byte[] bytes = code.toUpperCase(Locale.ROOT).getBytes(StandardCharsets.US_ASCII);
+        if (bytes.length > CODE_WIDTH) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            int idSlot = findIdSlot(ordinalsById, bookingId);
+            if (ordinalsById[idSlot] != 0) {
+                return false;
+            }
+            if (size == bookingIds.length) {
+                bookingIds = Arrays.copyOf(bookingIds, size * 2);
+                codes = Arrays.copyOf(codes, size * 2 * CODE_WIDTH);
+                rehashIds(size * 4);
+                idSlot = findIdSlot(ordinalsById, bookingId);
+            }
+            int ordinal = size++;
+            ordinalsById[idSlot] = ordinal + 1;
+            bookingIds[ordinal] = bookingId;
+            System.arraycopy(bytes, 0, codes, ordinal * CODE_WIDTH, bytes.length);
+            for (int i = 0; i + MIN_QUERY_LENGTH <= bytes.length; i++) {
+                int key = trigram(bytes, i);
+                if (key >= 0) {
+                    appendPosting(key, ordinal);
+                }
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Booking ids whose code contains {@code query}, ignoring case, or {@code null}
+     * when the index cannot answer cheaply: the query is shorter than three
+     * characters, contains characters other than letters and digits, or matches
+     * more than {@code maxMatches} codes.
+     */
+    public long[] search(String query, int maxMatches) {
+        byte[] needle = query.toUpperCase(Locale.ROOT).getBytes(StandardCharsets.US_ASCII);
+        if (needle.length < MIN_QUERY_LENGTH) {
+            return null;
+        }
+        if (needle.length > CODE_WIDTH) {
+            return new long[0];
+        }
+        int[] keys = new int[needle.length - MIN_QUERY_LENGTH + 1];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = trigram(needle, i);
+            if (keys[i] < 0) {
+                return null;
+            }
+        }
+
+        lock.readLock().lock();
+        try {
+            int rarest = keys[0];
+            for (int key : keys) {
+                if (postingSizes[key] < postingSizes[rarest]) {
+                    rarest = key;
+                }
+            }
+            int[] candidates = postings[rarest];
+            int candidateCount = postingSizes[rarest];
+            long[] matches = new long[Math.min(candidateCount, maxMatches + 1)];
+            int matchCount = 0;
+            for (int i = 0; i < candidateCount; i++) {
+                int ordinal = candidates[i];
+                if (contains(ordinal, needle)) {
+                    if (matchCount == maxMatches) {
+                        return null;
+                    }
+                    matches[matchCount++] = bookingIds[ordinal];
+                }
+            }
+            return Arrays.copyOf(matches, matchCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int findIdSlot(int[] table, long bookingId) {
+        int mask = table.length - 1;
+        int slot = Long.hashCode(bookingId * 0x9E3779B97F4A7C15L) & mask;
+        while (table[slot] != 0 && bookingIds[table[slot] - 1] != bookingId) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehashIds(int capacity) {
+        int[] table = new int[capacity];
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            table[findIdSlot(table, bookingIds[ordinal])] = ordinal + 1;
+        }
+        ordinalsById = table;
+    }
+
+    private void appendPosting(int key, int ordinal) {
+        int[] list = postings[key];
+        int length = postingSizes[key];
+        if (list == null) {
+            list = new int[4];
+            postings[key] = list;
+        } else if (list[length - 1] == ordinal) {
+            // The same trigram occurs twice in this code.
+            return;
+        } else if (length == list.length) {
+            list = Arrays.copyOf(list, length * 2);
+            postings[key] = list;
+        }
+        list[length] = ordinal;
+        postingSizes[key] = length + 1;
+    }
+
+    private boolean contains(int ordinal, byte[] needle) {
+        int offset = ordinal * CODE_WIDTH;
+        int last = CODE_WIDTH - needle.length;
+        outer:
+        for (int start = 0; start <= last; start++) {
+            for (int i = 0; i < needle.length; i++) {
+                if (codes[offset + start + i] != needle[i]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static int trigram(byte[] bytes, int start) {
+        int key = 0;
+        for (int i = start; i < start + MIN_QUERY_LENGTH; i++) {
+            int digit = Character.digit(bytes[i], ALPHABET);
+            if (digit < 0) {
+                return -1;
+            }
+            key = key * ALPHABET + digit;
+        }
+        return key;
+    }
+}
@@ -0,0 +1,97 @@
+package com.mini.soccer.service.booking;
+
+import com.mini.soccer.config.BookingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped locks keyed by field id. Booking writes for the same field are ordered,
+ * while writes for fields on different stripes proceed in parallel.
+ */
+@Component
+public class FieldBookingLocks {
+
+    private final ReentrantLock[] stripes;
+    private final Duration waitTimeout;
+    private final Timer waitTimer;
+    private final Counter contendedCounter;
+    private final Counter timeoutCounter;
+
+    public FieldBookingLocks(BookingProperties properties, MeterRegistry meterRegistry) {
+        int size = Integer.highestOneBit(Math.max(1, properties.getLocking().getStripes() * 2 - 1));
+        this.stripes = new ReentrantLock[size];
+        Arrays.setAll(stripes, i -> new ReentrantLock());
+        this.waitTimeout = properties.getLocking().getWaitTimeout();
+        this.waitTimer = Timer.builder("booking.field.lock.wait")
+                .description("Time spent waiting for a field booking lock")
+                .register(meterRegistry);
+        this.contendedCounter = Counter.builder("booking.field.lock.contended")
+                .description("Lock acquisitions that had to wait for another booking on the same stripe")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("booking.field.lock.timeouts")
+                .description("Lock acquisitions that gave up after the wait timeout")
+                .register(meterRegistry);
+        Gauge.builder("booking.field.lock.waiting", this, FieldBookingLocks::waitingThreads)
+                .description("Threads currently queued on field booking locks")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Locks the field's stripe and keeps it until the current transaction completes,
+     * so the overlap check and the insert are both visible to the next holder.
+     */
+    public void lockUntilCompletion(Long fieldId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Field booking locks require an active transaction");
+        }
+        ReentrantLock lock = stripeFor(fieldId);
+        long startedAt = System.nanoTime();
+        boolean acquired = lock.tryLock();
+        if (!acquired) {
+            contendedCounter.increment();
+            try {
+                acquired = lock.tryLock(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            timeoutCounter.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Field is busy, please try again");
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    private ReentrantLock stripeFor(Long fieldId) {
+        int hash = Long.hashCode(fieldId);
+        hash ^= hash >>> 16;
+        return stripes[hash & (stripes.length - 1)];
+    }
+
+    private double waitingThreads() {
+        int waiting = 0;
+        for (ReentrantLock stripe : stripes) {
+            waiting += stripe.getQueueLength();
+        }
+        return waiting;
+    }
+}
@@ -0,0 +1,11 @@
+package com.mini.soccer.service.booking;
+
+import com.mini.soccer.enums.ExportFormat;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+public interface IBookingExportService {
+
+    StreamingResponseBody exportBookings(LocalDate from, LocalDate to, ExportFormat format);
+}
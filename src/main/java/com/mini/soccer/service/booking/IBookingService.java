@@ -3,20 +3,36 @@ package com.mini.soccer.service.booking;
 import com.mini.soccer.dto.request.BookingRequest;
 import com.mini.soccer.dto.request.CancelBookingRequest;
 import com.mini.soccer.dto.request.PaymentRequest;
+import com.mini.soccer.dto.request.SeriesBookingRequest;
 import com.mini.soccer.dto.request.UpdatePaymentStatusRequest;
 import com.mini.soccer.dto.response.AdminBookingDetailResponse;
 import com.mini.soccer.dto.response.AdminBookingSummaryResponse;
 import com.mini.soccer.dto.response.BookingResponse;
+import com.mini.soccer.dto.response.CursorPageResponse;
 import com.mini.soccer.dto.response.PaymentResponse;
+import com.mini.soccer.dto.response.SeriesBookingResponse;
+import com.mini.soccer.enums.BookingScope;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface IBookingService {
 
     BookingResponse createBooking(BookingRequest request);
 
+    SeriesBookingResponse createSeriesBooking(SeriesBookingRequest request);
+
+    /**
+     * Books a released slot for a waitlisted user and holds it until {@code holdUntil};
+     * empty if the slot has been taken again in the meantime.
+     */
+    Optional<BookingResponse> holdSlotForWaitlist(Long userId, Long fieldId,
+                                                  LocalDateTime start, LocalDateTime end,
+                                                  LocalDateTime holdUntil);
+
     BookingResponse cancelBooking(Long bookingId, CancelBookingRequest request);
 
     PaymentResponse payForBooking(Long bookingId, PaymentRequest request, String clientIp);
@@ -25,7 +41,14 @@ public interface IBookingService {
 
     Page<AdminBookingSummaryResponse> getAdminBookings(String bookingCode, Pageable pageable);
 
+    CursorPageResponse<AdminBookingSummaryResponse> scrollAdminBookings(String bookingCode, String cursor, int size);
+
     AdminBookingDetailResponse getAdminBookingDetail(Long bookingId);
 
-    List<BookingResponse> getCurrentUserBookings();
+    CursorPageResponse<BookingResponse> getCurrentUserBookings(BookingScope scope, String cursor, int size);
+
+    /**
+     * Changes whenever the caller's bookings, their payments or field names change.
+     */
+    String getCurrentUserBookingsETag(BookingScope scope);
 }
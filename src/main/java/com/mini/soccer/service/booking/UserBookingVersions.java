@@ -0,0 +1,58 @@
+package com.mini.soccer.service.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Per-user change counters in {@code user_booking_versions}, bumped on the caller's
+ * transaction whenever one of the user's bookings or payments changes. Read
+ * endpoints derive their ETag from the counter instead of from the response body.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserBookingVersions {
+
+    private static final String SELECT_SQL = "select version from user_booking_versions where user_id = :userId";
+    private static final String BUMP_SQL = """
+            insert into user_booking_versions (user_id, version) values (:userId, 1)
+            on duplicate key update version = version + 1
+            """;
+    private static final String BUMP_FOR_BOOKINGS_SQL = """
+            insert into user_booking_versions (user_id, version)
+            select distinct user_id, 1 from bookings where booking_id in (:bookingIds)
+            on duplicate key update version = user_booking_versions.version + 1
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public long current(Long userId) {
+        List<Long> versions = jdbcTemplate.queryForList(SELECT_SQL,
+                new MapSqlParameterSource("userId", userId), Long.class);
+        return versions.isEmpty() ? 0 : versions.get(0);
+    }
+
+    public void bump(Long userId) {
+        jdbcTemplate.update(BUMP_SQL, new MapSqlParameterSource("userId", userId));
+    }
+
+    public void bump(Collection<Long> userIds) {
+        // Sorted so concurrent multi-user bumps lock rows in the same order.
+        jdbcTemplate.batchUpdate(BUMP_SQL, userIds.stream()
+                .distinct()
+                .sorted()
+                .map(userId -> new MapSqlParameterSource("userId", userId))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    public void bumpForBookings(Collection<Long> bookingIds) {
+        if (!bookingIds.isEmpty()) {
+            jdbcTemplate.update(BUMP_FOR_BOOKINGS_SQL, new MapSqlParameterSource("bookingIds", bookingIds));
+        }
+    }
+}
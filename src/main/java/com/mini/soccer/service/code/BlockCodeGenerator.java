@@ -0,0 +1,137 @@
+package com.mini.soccer.service.code;
+
+import com.mini.soccer.config.BookingProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Generates codes from counter blocks reserved per node, so uniqueness needs one
+ * database round trip per block instead of an existence query per code.
+ * Codes are the counter in base 36, left-padded to eight characters.
+ * <p>
+ * The next block is reserved on a background thread once half of the current one is
+ * used, outside any caller's transaction, so callers holding a pooled connection
+ * never need a second one and never wait on a lock while a block is reserved.
+ */
+@Service
+public class BlockCodeGenerator implements ICodeGenerator {
+
+    private static final int CODE_DIGITS = 8;
+    private static final int RADIX = 36;
+    private static final long MAX_VALUE = (long) Math.pow(RADIX, CODE_DIGITS) - 1;
+    private static final Duration REFILL_WAIT_TIMEOUT = Duration.ofSeconds(5);
+
+    private final ExecutorService refills = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "code-block-allocator");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Counter bookingCodes;
+    private final Counter transactionCodes;
+
+    public BlockCodeGenerator(CodeBlockAllocator allocator, BookingProperties properties) {
+        int blockSize = properties.getCodes().getBlockSize();
+        this.bookingCodes = new Counter("booking_codes", "BK", allocator, blockSize);
+        this.transactionCodes = new Counter("transaction_codes", "TX", allocator, blockSize);
+    }
+
+    @Override
+    public String nextBookingCode() {
+        return bookingCodes.nextCode();
+    }
+
+    @Override
+    public String nextTransactionCode() {
+        return transactionCodes.nextCode();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refills.shutdown();
+    }
+
+    private final class Counter {
+
+        private final String name;
+        private final String prefix;
+        private final CodeBlockAllocator allocator;
+        private final int blockSize;
+        private final int refillThreshold;
+        private long next;
+        private long limit;
+        private CompletableFuture<Long> refill;
+
+        private Counter(String name, String prefix, CodeBlockAllocator allocator, int blockSize) {
+            this.name = name;
+            this.prefix = prefix;
+            this.allocator = allocator;
+            this.blockSize = blockSize;
+            this.refillThreshold = blockSize / 2;
+        }
+
+        String nextCode() {
+            while (true) {
+                CompletableFuture<Long> pending;
+                synchronized (this) {
+                    if (next == limit && refill != null && refill.isDone() && !refill.isCompletedExceptionally()) {
+                        next = refill.join();
+                        limit = next + blockSize;
+                        refill = null;
+                    }
+                    if (next < limit) {
+                        long value = next++;
+                        if (limit - next <= refillThreshold && (refill == null || refill.isCompletedExceptionally())) {
+                            refill = startRefill();
+                        }
+                        return format(value);
+                    }
+                    if (refill == null || refill.isCompletedExceptionally()) {
+                        refill = startRefill();
+                    }
+                    pending = refill;
+                }
+                // Only reached when a block ran out before its successor was reserved.
+                await(pending);
+            }
+        }
+
+        private CompletableFuture<Long> startRefill() {
+            return CompletableFuture.supplyAsync(() -> allocator.allocate(name, blockSize), refills);
+        }
+
+        private void await(CompletableFuture<Long> pending) {
+            try {
+                pending.get(REFILL_WAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while reserving codes");
+            } catch (ExecutionException | TimeoutException ex) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                        "Unable to reserve a block for counter " + name, ex);
+            }
+        }
+
+        private String format(long value) {
+            if (value > MAX_VALUE) {
+                throw new IllegalStateException("Code space exhausted for " + name);
+            }
+            char[] code = new char[prefix.length() + CODE_DIGITS];
+            prefix.getChars(0, prefix.length(), code, 0);
+            for (int i = code.length - 1; i >= prefix.length(); i--) {
+                code[i] = Character.toUpperCase(Character.forDigit((int) (value % RADIX), RADIX));
+                value /= RADIX;
+            }
+            return new String(code);
+        }
+    }
+}
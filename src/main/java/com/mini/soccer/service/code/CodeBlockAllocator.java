@@ -0,0 +1,11 @@
+package com.mini.soccer.service.code;
+
+public interface CodeBlockAllocator {
+
+    /**
+     * Reserves {@code size} consecutive values of the named counter for this node.
+     *
+     * @return the first value of the reserved block
+     */
+    long allocate(String counterName, int size);
+}
@@ -0,0 +1,14 @@
+package com.mini.soccer.service.code;
+
+public interface ICodeGenerator {
+
+    /**
+     * Unique booking code that fits the 10-character {@code bookings.booking_code} column.
+     */
+    String nextBookingCode();
+
+    /**
+     * Unique transaction code that fits the 20-character {@code payments.transaction_code} column.
+     */
+    String nextTransactionCode();
+}
@@ -0,0 +1,59 @@
+package com.mini.soccer.service.code;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Hands out counter blocks from the shared {@code id_generators} table. Each block is
+ * reserved in its own short transaction, so the row lock is never held for the
+ * lifetime of a booking transaction. {@link BlockCodeGenerator} calls it from its own
+ * background thread, never from inside a caller's transaction.
+ */
+@Component
+public class JdbcCodeBlockAllocator implements CodeBlockAllocator {
+
+    private static final String SELECT_SQL = "select next_val from id_generators where gen_name = ? for update";
+    private static final String INSERT_SQL = "insert into id_generators (gen_name, next_val) values (?, 0)";
+    private static final String UPDATE_SQL = "update id_generators set next_val = ? where gen_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcCodeBlockAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public long allocate(String counterName, int size) {
+        Long start = transactionTemplate.execute(status -> {
+            long next = lockCounter(counterName);
+            jdbcTemplate.update(UPDATE_SQL, next + size, counterName);
+            return next;
+        });
+        if (start == null) {
+            throw new IllegalStateException("Unable to allocate a block for counter " + counterName);
+        }
+        return start;
+    }
+
+    private long lockCounter(String counterName) {
+        List<Long> current = jdbcTemplate.queryForList(SELECT_SQL, Long.class, counterName);
+        if (!current.isEmpty()) {
+            return current.get(0);
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, counterName);
+        } catch (DuplicateKeyException ex) {
+            // Another node created the counter first; lock the row it inserted.
+        }
+        return jdbcTemplate.queryForObject(SELECT_SQL, Long.class, counterName);
+    }
+}
@@ -0,0 +1,51 @@
+package com.mini.soccer.service.dashboard;
+
+import com.mini.soccer.dto.response.FieldRollupResponse;
+import com.mini.soccer.service.field.FieldCatalog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Admin dashboard figures read from the per-field daily rollups, so the cost of a
+ * query depends on the number of days and fields, not on the number of bookings.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardService implements IDashboardService {
+
+    private static final long MAX_RANGE_DAYS = 366;
+
+    private final FieldDailyRollups fieldDailyRollups;
+    private final FieldCatalog fieldCatalog;
+
+    @Override
+    public List<FieldRollupResponse> getFieldTotals(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return fieldDailyRollups.totalsByField(from, to);
+    }
+
+    @Override
+    public List<FieldRollupResponse> getFieldDaily(Long fieldId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        if (!fieldCatalog.contains(fieldId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Field not found");
+        }
+        return fieldDailyRollups.dailyForField(fieldId, from, to);
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'to' must not be before 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Dashboards can cover at most " + MAX_RANGE_DAYS + " days");
+        }
+    }
+}
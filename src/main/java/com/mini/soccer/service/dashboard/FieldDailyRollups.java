@@ -0,0 +1,175 @@
+package com.mini.soccer.service.dashboard;
+
+import com.mini.soccer.dto.response.FieldRollupResponse;
+import com.mini.soccer.enums.PaymentStatus;
+import com.mini.soccer.model.Booking;
+import com.mini.soccer.model.Money;
+import com.mini.soccer.repository.projection.BookedSlot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Per-field, per-day dashboard counters in {@code field_daily_rollups}. Every booking
+ * and payment state change adds its delta to the row of the booking's field and
+ * play day, on the caller's transaction, so the counters commit or roll back with
+ * the change itself.
+ */
+@Component
+@RequiredArgsConstructor
+public class FieldDailyRollups {
+
+    private static final String UPSERT_SQL = """
+            insert into field_daily_rollups
+                (field_id, booking_day, booked_minutes, bookings, cancellations,
+                 confirmed_revenue, refunds_pending, refunds_pending_amount)
+            values (?, ?, ?, ?, ?, ?, ?, ?) as delta
+            on duplicate key update
+                booked_minutes = field_daily_rollups.booked_minutes + delta.booked_minutes,
+                bookings = field_daily_rollups.bookings + delta.bookings,
+                cancellations = field_daily_rollups.cancellations + delta.cancellations,
+                confirmed_revenue = field_daily_rollups.confirmed_revenue + delta.confirmed_revenue,
+                refunds_pending = field_daily_rollups.refunds_pending + delta.refunds_pending,
+                refunds_pending_amount = field_daily_rollups.refunds_pending_amount + delta.refunds_pending_amount
+            """;
+    private static final String TOTALS_SQL = """
+            select r.field_id, f.name,
+                   sum(r.booked_minutes), sum(r.bookings), sum(r.cancellations),
+                   sum(r.confirmed_revenue), sum(r.refunds_pending), sum(r.refunds_pending_amount)
+            from field_daily_rollups r
+            join fields f on f.field_id = r.field_id
+            where r.booking_day between ? and ?
+            group by r.field_id, f.name
+            order by r.field_id
+            """;
+    private static final String DAILY_SQL = """
+            select r.booking_day, f.name,
+                   r.booked_minutes, r.bookings, r.cancellations,
+                   r.confirmed_revenue, r.refunds_pending, r.refunds_pending_amount
+            from field_daily_rollups r
+            join fields f on f.field_id = r.field_id
+            where r.field_id = ? and r.booking_day between ? and ?
+            order by r.booking_day
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void bookingsCreated(List<Booking> bookings) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, bookings.stream()
+                .map(booking -> delta(booking, bookedMinutes(booking), 1, 0, Money.ZERO, 0, Money.ZERO))
+                .toList());
+    }
+
+    public void bookingCancelled(Booking booking) {
+        apply(delta(booking, -bookedMinutes(booking), -1, 1, Money.ZERO, 0, Money.ZERO));
+    }
+
+    public void slotsCancelled(List<BookedSlot> slots) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, slots.stream()
+                .map(slot -> delta(slot.fieldId(), slot.startTime(),
+                        -Duration.between(slot.startTime(), slot.endTime()).toMinutes(),
+                        -1, 1, Money.ZERO, 0, Money.ZERO))
+                .toList());
+    }
+
+    /**
+     * Moves the payment's amount between the revenue and refund counters when its
+     * status changes. A missing previous payment is passed as {@code null} status.
+     */
+    public void paymentChanged(Booking booking,
+                               PaymentStatus previousStatus, Money previousAmount,
+                               PaymentStatus status, Money amount) {
+        if (previousStatus == status && Money.orZero(previousAmount).equals(Money.orZero(amount))) {
+            return;
+        }
+        Money revenue = Money.ZERO;
+        Money refundAmount = Money.ZERO;
+        int refunds = 0;
+        if (previousStatus == PaymentStatus.PAID) {
+            revenue = revenue.minus(Money.orZero(previousAmount));
+        } else if (previousStatus == PaymentStatus.REFUND_PENDING) {
+            refunds--;
+            refundAmount = refundAmount.minus(Money.orZero(previousAmount));
+        }
+        if (status == PaymentStatus.PAID) {
+            revenue = revenue.plus(Money.orZero(amount));
+        } else if (status == PaymentStatus.REFUND_PENDING) {
+            refunds++;
+            refundAmount = refundAmount.plus(Money.orZero(amount));
+        }
+        if (!revenue.isZero() || refunds != 0 || !refundAmount.isZero()) {
+            apply(delta(booking, 0, 0, 0, revenue, refunds, refundAmount));
+        }
+    }
+
+    public List<FieldRollupResponse> totalsByField(LocalDate from, LocalDate to) {
+        RowMapper<FieldRollupResponse> mapper = (rs, rowNum) -> FieldRollupResponse.builder()
+                .fieldId(rs.getLong(1))
+                .fieldName(rs.getString(2))
+                .from(from)
+                .to(to)
+                .bookedMinutes(rs.getLong(3))
+                .bookings(rs.getLong(4))
+                .cancellations(rs.getLong(5))
+                .confirmedRevenue(Money.of(rs.getBigDecimal(6)))
+                .refundsPending(rs.getLong(7))
+                .refundsPendingAmount(Money.of(rs.getBigDecimal(8)))
+                .build();
+        return jdbcTemplate.query(TOTALS_SQL, mapper, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    public List<FieldRollupResponse> dailyForField(Long fieldId, LocalDate from, LocalDate to) {
+        RowMapper<FieldRollupResponse> mapper = (rs, rowNum) -> {
+            LocalDate day = rs.getDate(1).toLocalDate();
+            return FieldRollupResponse.builder()
+                    .fieldId(fieldId)
+                    .fieldName(rs.getString(2))
+                    .from(day)
+                    .to(day)
+                    .bookedMinutes(rs.getLong(3))
+                    .bookings(rs.getLong(4))
+                    .cancellations(rs.getLong(5))
+                    .confirmedRevenue(Money.of(rs.getBigDecimal(6)))
+                    .refundsPending(rs.getLong(7))
+                    .refundsPendingAmount(Money.of(rs.getBigDecimal(8)))
+                    .build();
+        };
+        return jdbcTemplate.query(DAILY_SQL, mapper, fieldId, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    private void apply(Object[] delta) {
+        jdbcTemplate.update(UPSERT_SQL, delta);
+    }
+
+    private Object[] delta(Booking booking, long bookedMinutes, int bookings, int cancellations,
+                           Money confirmedRevenue, int refundsPending, Money refundsPendingAmount) {
+        return delta(booking.getField().getFieldId(), booking.getStartTime(), bookedMinutes, bookings,
+                cancellations, confirmedRevenue, refundsPending, refundsPendingAmount);
+    }
+
+    private Object[] delta(Long fieldId, LocalDateTime startTime, long bookedMinutes, int bookings,
+                           int cancellations, Money confirmedRevenue, int refundsPending,
+                           Money refundsPendingAmount) {
+        return new Object[]{
+                fieldId,
+                Date.valueOf(startTime.toLocalDate()),
+                bookedMinutes,
+                bookings,
+                cancellations,
+                confirmedRevenue.toBigDecimal(),
+                refundsPending,
+                refundsPendingAmount.toBigDecimal()
+        };
+    }
+
+    private long bookedMinutes(Booking booking) {
+        return Duration.between(booking.getStartTime(), booking.getEndTime()).toMinutes();
+    }
+}
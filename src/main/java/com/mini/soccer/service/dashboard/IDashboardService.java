@@ -0,0 +1,13 @@
+package com.mini.soccer.service.dashboard;
+
+import com.mini.soccer.dto.response.FieldRollupResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface IDashboardService {
+
+    List<FieldRollupResponse> getFieldTotals(LocalDate from, LocalDate to);
+
+    List<FieldRollupResponse> getFieldDaily(Long fieldId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,227 @@
+package com.mini.soccer.service.field;
+
+import com.mini.soccer.config.BookingProperties;
+import com.mini.soccer.dto.response.FieldAvailabilityResponse;
+import com.mini.soccer.dto.response.TimeRangeResponse;
+import com.mini.soccer.repository.projection.BookedSlot;
+import com.mini.soccer.service.booking.BookingSlotIndex;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves field availability from per-day slot bitmaps derived from the in-memory
+ * booking slot index. Bitmaps are patched when bookings are created and rebuilt
+ * lazily after cancellations, so reads never touch the bookings table.
+ */
+@Service
+@RequiredArgsConstructor
+public class FieldAvailabilityService implements IFieldAvailabilityService, BookingSlotIndex.SlotListener {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final Duration MAX_RANGE = Duration.ofDays(31);
+    private static final int MAX_FIELDS_PER_REQUEST = 20;
+    private static final int MAX_CACHED_DAYS = 20_000;
+
+    private final BookingSlotIndex bookingSlotIndex;
+    private final FieldCatalog fieldCatalog;
+    private final BookingProperties properties;
+    private final Map<DayKey, long[]> bitmaps = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> fieldVersions = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerListener() {
+        bookingSlotIndex.addListener(this);
+    }
+
+    @Override
+    public FieldAvailabilityResponse getAvailability(Long fieldId, LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+        if (!fieldCatalog.contains(fieldId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Field not found");
+        }
+        return buildAvailability(fieldId, from, to);
+    }
+
+    @Override
+    public List<FieldAvailabilityResponse> getAvailability(List<Long> fieldIds, LocalDateTime from, LocalDateTime to) {
+        if (fieldIds == null || fieldIds.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one field id is required");
+        }
+        List<Long> distinctIds = fieldIds.stream().distinct().toList();
+        if (distinctIds.size() > MAX_FIELDS_PER_REQUEST) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_FIELDS_PER_REQUEST + " fields can be queried at once");
+        }
+        validateRange(from, to);
+        if (!distinctIds.stream().allMatch(fieldCatalog::contains)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Field not found");
+        }
+        return distinctIds.stream()
+                .map(fieldId -> buildAvailability(fieldId, from, to))
+                .toList();
+    }
+
+    @Override
+    public void slotChanged(BookedSlot slot, boolean active) {
+        fieldVersion(slot.fieldId()).incrementAndGet();
+        LocalDate lastDay = slot.endTime().minusNanos(1).toLocalDate();
+        for (LocalDate day = slot.startTime().toLocalDate(); !day.isAfter(lastDay); day = day.plusDays(1)) {
+            DayKey key = new DayKey(slot.fieldId(), day);
+            if (active) {
+                bitmaps.computeIfPresent(key, (k, bits) -> {
+                    long[] patched = bits.clone();
+                    mark(patched, slot, k.day());
+                    return patched;
+                });
+            } else {
+                // Clearing bits could hide another booking sharing the slot; rebuild on next read instead.
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    @Override
+    public void fieldReloaded(Long fieldId) {
+        fieldVersion(fieldId).incrementAndGet();
+        bitmaps.keySet().removeIf(key -> key.fieldId().equals(fieldId));
+    }
+
+    private FieldAvailabilityResponse buildAvailability(Long fieldId, LocalDateTime from, LocalDateTime to) {
+        int slotMinutes = properties.getSlotMinutes();
+        LocalDateTime start = floorToSlot(from);
+        LocalDateTime end = floorToSlot(to);
+        if (end.isBefore(to)) {
+            end = end.plusMinutes(slotMinutes);
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        List<TimeRangeResponse> freeSlots = new ArrayList<>();
+        List<TimeRangeResponse> busySlots = new ArrayList<>();
+        LocalDate currentDay = null;
+        long[] bits = null;
+        Boolean runBusy = null;
+        LocalDateTime runStart = start;
+
+        for (LocalDateTime cursor = start; cursor.isBefore(end); cursor = cursor.plusMinutes(slotMinutes)) {
+            if (!cursor.toLocalDate().equals(currentDay)) {
+                currentDay = cursor.toLocalDate();
+                bits = dayBitmap(fieldId, currentDay);
+            }
+            int slotIndex = minuteOfDay(cursor) / slotMinutes;
+            boolean busy = cursor.isBefore(now) || isSet(bits, slotIndex);
+            if (runBusy != null && runBusy != busy) {
+                appendRange(runBusy ? busySlots : freeSlots, runStart, cursor);
+                runStart = cursor;
+            }
+            runBusy = busy;
+        }
+        if (runBusy != null) {
+            appendRange(runBusy ? busySlots : freeSlots, runStart, end);
+        }
+
+        return FieldAvailabilityResponse.builder()
+                .fieldId(fieldId)
+                .from(start)
+                .to(end)
+                .slotMinutes(slotMinutes)
+                .freeSlots(freeSlots)
+                .busySlots(busySlots)
+                .build();
+    }
+
+    private long[] dayBitmap(Long fieldId, LocalDate day) {
+        DayKey key = new DayKey(fieldId, day);
+        long[] cached = bitmaps.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        AtomicLong version = fieldVersion(fieldId);
+        long versionBefore = version.get();
+        long[] bits = new long[(MINUTES_PER_DAY / properties.getSlotMinutes() + 63) / 64];
+        LocalDateTime dayStart = day.atStartOfDay();
+        bookingSlotIndex.slotsBetween(fieldId, dayStart, dayStart.plusDays(1))
+                .forEach(slot -> mark(bits, slot, day));
+
+        if (bitmaps.size() >= MAX_CACHED_DAYS) {
+            evictPastDays();
+        }
+        bitmaps.put(key, bits);
+        if (version.get() != versionBefore) {
+            // A booking changed while the bitmap was being built; do not keep a possibly stale copy.
+            bitmaps.remove(key, bits);
+        }
+        return bits;
+    }
+
+    private void mark(long[] bits, BookedSlot slot, LocalDate day) {
+        int slotMinutes = properties.getSlotMinutes();
+        LocalDateTime dayStart = day.atStartOfDay();
+        LocalDateTime dayEnd = dayStart.plusDays(1);
+        LocalDateTime from = slot.startTime().isAfter(dayStart) ? slot.startTime() : dayStart;
+        LocalDateTime to = slot.endTime().isBefore(dayEnd) ? slot.endTime() : dayEnd;
+        long firstSlot = Duration.between(dayStart, from).toMinutes() / slotMinutes;
+        long endSlot = (Duration.between(dayStart, to).toMinutes() + slotMinutes - 1) / slotMinutes;
+        for (long slotIndex = firstSlot; slotIndex < endSlot; slotIndex++) {
+            bits[(int) (slotIndex >>> 6)] |= 1L << slotIndex;
+        }
+    }
+
+    private boolean isSet(long[] bits, int slotIndex) {
+        return (bits[slotIndex >>> 6] & (1L << slotIndex)) != 0;
+    }
+
+    private void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        bitmaps.keySet().removeIf(key -> key.day().isBefore(today));
+        if (bitmaps.size() >= MAX_CACHED_DAYS) {
+            bitmaps.clear();
+        }
+    }
+
+    private AtomicLong fieldVersion(Long fieldId) {
+        return fieldVersions.computeIfAbsent(fieldId, id -> new AtomicLong());
+    }
+
+    private void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'to' must be after 'from'");
+        }
+        if (Duration.between(from, to).compareTo(MAX_RANGE) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Availability can be queried for at most " + MAX_RANGE.toDays() + " days");
+        }
+    }
+
+    private LocalDateTime floorToSlot(LocalDateTime time) {
+        int slotMinutes = properties.getSlotMinutes();
+        int minuteOfDay = minuteOfDay(time);
+        return time.toLocalDate().atStartOfDay().plusMinutes(minuteOfDay - minuteOfDay % slotMinutes);
+    }
+
+    private int minuteOfDay(LocalDateTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private void appendRange(List<TimeRangeResponse> ranges, LocalDateTime start, LocalDateTime end) {
+        ranges.add(TimeRangeResponse.builder()
+                .startTime(start)
+                .endTime(end)
+                .build());
+    }
+
+    private record DayKey(Long fieldId, LocalDate day) {
+    }
+}
@@ -0,0 +1,210 @@
+package com.mini.soccer.service.field;
+
+import com.mini.soccer.model.Field;
+import com.mini.soccer.repository.FieldRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Immutable, versioned copy of the {@code fields} table. Readers use the current
+ * snapshot without locking; local changes swap in a modified copy after commit.
+ * Every change bumps the {@code fields} row of {@code catalog_versions} in the same
+ * transaction, and each node polls that row to reload after changes made elsewhere.
+ * <p>
+ * Catalog entries are detached entities shared by all readers: they may be set as
+ * association targets but must never be modified.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FieldCatalog {
+
+    private static final String CATALOG_NAME = "fields";
+
+    private static final String SELECT_VERSION_SQL = "select version from catalog_versions where catalog_name = ?";
+    private static final String BUMP_VERSION_SQL = "update catalog_versions set version = version + 1 where catalog_name = ?";
+    private static final String INSERT_VERSION_SQL = "insert into catalog_versions (catalog_name, version) values (?, 1)";
+
+    private final FieldRepository fieldRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    void warmUp() {
+        try {
+            ensureLoaded();
+        } catch (RuntimeException ex) {
+            log.warn("Field catalog warm-up failed, retrying on first use: {}", ex.getMessage());
+        }
+    }
+
+    public Optional<Field> find(Long fieldId) {
+        Field field = ensureLoaded().fields().get(fieldId);
+        if (field == null) {
+            // The field may have been created on another node since the last poll.
+            field = reloadIfChanged().fields().get(fieldId);
+        }
+        return Optional.ofNullable(field);
+    }
+
+    public Field require(Long fieldId) {
+        return find(fieldId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Field not found"));
+    }
+
+    public boolean contains(Long fieldId) {
+        return find(fieldId).isPresent();
+    }
+
+    /**
+     * All fields, ordered by id.
+     */
+    public List<Field> all() {
+        return ensureLoaded().ordered();
+    }
+
+    /**
+     * Changes whenever the catalog is reloaded or modified.
+     */
+    public long version() {
+        return ensureLoaded().version();
+    }
+
+    /**
+     * Records a created or updated field; the catalog serves it once the transaction commits.
+     */
+    public void saved(Field field) {
+        Field copy = Field.builder()
+                .fieldId(field.getFieldId())
+                .name(field.getName())
+                .pricePerHour(field.getPricePerHour())
+                .description(field.getDescription())
+                .build();
+        long version = bumpVersion();
+        afterCommit(() -> apply(version, fields -> fields.put(copy.getFieldId(), copy)));
+    }
+
+    /**
+     * Records a deleted field; the catalog drops it once the transaction commits.
+     */
+    public void deleted(Long fieldId) {
+        long version = bumpVersion();
+        afterCommit(() -> apply(version, fields -> fields.remove(fieldId)));
+    }
+
+    @Scheduled(fixedDelayString = "${booking.catalog.refresh-interval:5s}",
+            initialDelayString = "${booking.catalog.refresh-interval:5s}")
+    void refresh() {
+        try {
+            reloadIfChanged();
+        } catch (RuntimeException ex) {
+            log.warn("Field catalog refresh failed, keeping the previous snapshot: {}", ex.getMessage());
+        }
+    }
+
+    private Snapshot ensureLoaded() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = load(readVersion());
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot reloadIfChanged() {
+        long version = readVersion();
+        Snapshot current = snapshot;
+        if (current != null && current.version() >= version) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null || snapshot.version() < version) {
+                snapshot = load(version);
+            }
+            return snapshot;
+        }
+    }
+
+    private synchronized void apply(long version, Consumer<Map<Long, Field>> change) {
+        Snapshot current = ensureLoaded();
+        if (current.version() >= version) {
+            return;
+        }
+        if (current.version() != version - 1) {
+            // Missed a change made on another node; the copy would be incomplete.
+            snapshot = load(readVersion());
+            return;
+        }
+        Map<Long, Field> fields = new HashMap<>(current.fields());
+        change.accept(fields);
+        snapshot = Snapshot.of(version, fields);
+    }
+
+    // The version is read before the rows, so a concurrent change is picked up on the next poll.
+    private Snapshot load(long version) {
+        Map<Long, Field> fields = new HashMap<>();
+        fieldRepository.findAll().forEach(field -> fields.put(field.getFieldId(), field));
+        log.info("Field catalog loaded {} fields at version {}", fields.size(), version);
+        return Snapshot.of(version, fields);
+    }
+
+    private long readVersion() {
+        List<Long> versions = jdbcTemplate.queryForList(SELECT_VERSION_SQL, Long.class, CATALOG_NAME);
+        return versions.isEmpty() ? 0 : versions.get(0);
+    }
+
+    // Runs in the caller's transaction, so the row lock serialises catalog changes across nodes.
+    private long bumpVersion() {
+        if (jdbcTemplate.update(BUMP_VERSION_SQL, CATALOG_NAME) == 0) {
+            try {
+                jdbcTemplate.update(INSERT_VERSION_SQL, CATALOG_NAME);
+                return 1;
+            } catch (DuplicateKeyException ex) {
+                jdbcTemplate.update(BUMP_VERSION_SQL, CATALOG_NAME);
+            }
+        }
+        return readVersion();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Snapshot(long version, Map<Long, Field> fields, List<Field> ordered) {
+
+        static Snapshot of(long version, Map<Long, Field> fields) {
+            return new Snapshot(version, Map.copyOf(fields), fields.values().stream()
+                    .sorted(Comparator.comparing(Field::getFieldId))
+                    .toList());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.mini.soccer.service.field;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mini.soccer.dto.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serialized {@code GET /fields} responses keyed by page, size and sort. Entries are
+ * tied to the field catalog version: the first request after a catalog change starts
+ * a fresh generation and each combination is serialized once per generation.
+ */
+@Component
+@RequiredArgsConstructor
+public class FieldListingCache {
+
+    // Enough for the page/sort combinations clients actually use; the rest are serialized per request.
+    private static final int MAX_ENTRIES = 256;
+
+    private final IFieldService fieldService;
+    private final FieldCatalog fieldCatalog;
+    private final ObjectMapper objectMapper;
+    private volatile Generation generation = new Generation(-1, Map.of());
+
+    /**
+     * The JSON body for the requested page, exactly as the controller would have written it.
+     */
+    public byte[] get(Pageable pageable) {
+        long version = fieldCatalog.version();
+        Generation current = generation;
+        if (current.version() != version) {
+            current = startGeneration(version);
+        }
+        String key = pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+        byte[] body = current.bodies().get(key);
+        if (body != null) {
+            return body;
+        }
+        if (current.bodies().size() >= MAX_ENTRIES) {
+            return serialize(pageable);
+        }
+        return current.bodies().computeIfAbsent(key, ignored -> serialize(pageable));
+    }
+
+    private synchronized Generation startGeneration(long version) {
+        if (generation.version() != version) {
+            generation = new Generation(version, new ConcurrentHashMap<>());
+        }
+        return generation;
+    }
+
+    private byte[] serialize(Pageable pageable) {
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponse.success(fieldService.getFields(pageable), "Retrieved fields"));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private record Generation(long version, Map<String, byte[]> bodies) {
+    }
+}
@@ -3,10 +3,11 @@ package com.mini.soccer.service.field;
 import com.mini.soccer.dto.request.FieldRequest;
 import com.mini.soccer.dto.response.FieldResponse;
 import com.mini.soccer.model.Field;
+import com.mini.soccer.model.Money;
 import com.mini.soccer.repository.FieldRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
@@ -14,8 +15,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.util.Comparator;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -23,16 +24,18 @@ import java.math.RoundingMode;
 public class FieldService implements IFieldService {
 
     private final FieldRepository fieldRepository;
+    private final FieldCatalog fieldCatalog;
 
     @Override
     @Transactional
     public FieldResponse createField(FieldRequest request) {
         Field field = Field.builder()
                 .name(request.getName().trim())
-                .pricePerHour(normalizePrice(request.getPricePerHour()))
+                .pricePerHour(Money.of(request.getPricePerHour()))
                 .description(normalizeDescription(request.getDescription()))
                 .build();
         Field saved = fieldRepository.save(field);
+        fieldCatalog.saved(saved);
         return toFieldResponse(saved);
     }
 
@@ -42,9 +45,10 @@ public class FieldService implements IFieldService {
         Field field = fieldRepository.findById(fieldId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Field not found"));
         field.setName(request.getName().trim());
-        field.setPricePerHour(normalizePrice(request.getPricePerHour()));
+        field.setPricePerHour(Money.of(request.getPricePerHour()));
         field.setDescription(normalizeDescription(request.getDescription()));
         Field saved = fieldRepository.save(field);
+        fieldCatalog.saved(saved);
         return toFieldResponse(saved);
     }
 
@@ -55,22 +59,46 @@ public class FieldService implements IFieldService {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Field not found");
         }
         fieldRepository.deleteById(fieldId);
+        fieldCatalog.deleted(fieldId);
     }
 
     @Override
     public Page<FieldResponse> getFields(Pageable pageable) {
-        Pageable effectivePageable = pageable;
-        if (pageable.getSort().isUnsorted()) {
-            effectivePageable = PageRequest.of(
-                    pageable.getPageNumber(),
-                    pageable.getPageSize(),
-                    Sort.by(Sort.Direction.DESC, "fieldId")
-            );
-        }
-        return fieldRepository.findAll(effectivePageable)
+        Sort sort = pageable.getSort().isUnsorted() ? Sort.by(Sort.Direction.DESC, "fieldId") : pageable.getSort();
+        List<Field> fields = fieldCatalog.all().stream()
+                .sorted(toComparator(sort))
+                .toList();
+        int from = (int) Math.min(pageable.getOffset(), fields.size());
+        int to = Math.min(from + pageable.getPageSize(), fields.size());
+        return new PageImpl<>(fields.subList(from, to), pageable, fields.size())
                 .map(this::toFieldResponse);
     }
 
+    @Override
+    public String getFieldsETag() {
+        return "fields-" + fieldCatalog.version();
+    }
+
+    private Comparator<Field> toComparator(Sort sort) {
+        Comparator<Field> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Field> next = switch (order.getProperty()) {
+                case "fieldId" -> Comparator.comparing(Field::getFieldId);
+                case "name" -> order.isIgnoreCase()
+                        ? Comparator.comparing(Field::getName, String.CASE_INSENSITIVE_ORDER)
+                        : Comparator.comparing(Field::getName);
+                case "pricePerHour" -> Comparator.comparing(Field::getPricePerHour);
+                default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Unsupported sort property: " + order.getProperty());
+            };
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
     private FieldResponse toFieldResponse(Field field) {
         return FieldResponse.builder()
                 .fieldId(field.getFieldId())
@@ -80,10 +108,6 @@ public class FieldService implements IFieldService {
                 .build();
     }
 
-    private BigDecimal normalizePrice(BigDecimal price) {
-        return price.setScale(2, RoundingMode.HALF_UP);
-    }
-
     private String normalizeDescription(String description) {
         if (description == null) {
             return null;
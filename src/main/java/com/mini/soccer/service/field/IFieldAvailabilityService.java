@@ -0,0 +1,13 @@
+package com.mini.soccer.service.field;
+
+import com.mini.soccer.dto.response.FieldAvailabilityResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface IFieldAvailabilityService {
+
+    FieldAvailabilityResponse getAvailability(Long fieldId, LocalDateTime from, LocalDateTime to);
+
+    List<FieldAvailabilityResponse> getAvailability(List<Long> fieldIds, LocalDateTime from, LocalDateTime to);
+}
@@ -14,4 +14,9 @@ public interface IFieldService {
     void deleteField(Long fieldId);
 
     Page<FieldResponse> getFields(Pageable pageable);
+
+    /**
+     * Changes whenever any field is created, updated or deleted, on any node.
+     */
+    String getFieldsETag();
 }
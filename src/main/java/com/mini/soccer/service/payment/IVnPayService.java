@@ -1,11 +1,12 @@
 package com.mini.soccer.service.payment;
 
-import java.math.BigDecimal;
+import com.mini.soccer.model.Money;
+
 import java.util.Map;
 
 public interface IVnPayService {
 
-    String createPaymentUrl(BigDecimal amount,
+    String createPaymentUrl(Money amount,
                             String orderInfo,
                             String transactionRef,
                             String clientIp);
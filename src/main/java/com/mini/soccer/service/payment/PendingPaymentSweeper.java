@@ -0,0 +1,151 @@
+package com.mini.soccer.service.payment;
+
+import com.mini.soccer.config.VnPayProperties;
+import com.mini.soccer.repository.projection.BookedSlot;
+import com.mini.soccer.service.booking.BookingHoldReleaser;
+import com.mini.soccer.service.booking.BookingSlotClaims;
+import com.mini.soccer.service.booking.BookingSlotIndex;
+import com.mini.soccer.service.booking.UserBookingVersions;
+import com.mini.soccer.service.dashboard.FieldDailyRollups;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Expires VNPay payments that were never completed and cancels the bookings still
+ * held for them. Works through the backlog in indexed chunks with bulk updates;
+ * {@code SKIP LOCKED} lets several nodes sweep at once without touching the same rows.
+ */
+@Slf4j
+@Component
+public class PendingPaymentSweeper {
+
+    private static final String SELECT_EXPIRED_SQL = """
+            select payment_id, booking_id from payments
+            where status = 'PENDING'
+              and payment_method = 'VNPAY'
+              and expires_at <= :now
+            order by expires_at
+            limit :limit
+            for update skip locked
+            """;
+    private static final String EXPIRE_PAYMENTS_SQL =
+            "update payments set status = 'EXPIRED' where payment_id in (:paymentIds)";
+    private static final String SELECT_HELD_BOOKINGS_SQL = """
+            select booking_id, field_id, start_time, end_time from bookings
+            where booking_id in (:bookingIds)
+              and status = 'PENDING'
+              and (hold_expires_at <= :now or hold_expires_at is null)
+            for update skip locked
+            """;
+    private static final String CANCEL_BOOKINGS_SQL = """
+            update bookings
+            set status = 'CANCELLED', cancellation_reason = :reason, cancelled_at = :now
+            where booking_id in (:bookingIds)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingSlotClaims bookingSlotClaims;
+    private final BookingSlotIndex bookingSlotIndex;
+    private final FieldDailyRollups fieldDailyRollups;
+    private final UserBookingVersions userBookingVersions;
+    private final int chunkSize;
+    private final Timer sweepTimer;
+    private final Counter expiredPayments;
+    private final Counter cancelledBookings;
+
+    public PendingPaymentSweeper(NamedParameterJdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 BookingSlotClaims bookingSlotClaims,
+                                 BookingSlotIndex bookingSlotIndex,
+                                 FieldDailyRollups fieldDailyRollups,
+                                 UserBookingVersions userBookingVersions,
+                                 VnPayProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bookingSlotClaims = bookingSlotClaims;
+        this.bookingSlotIndex = bookingSlotIndex;
+        this.fieldDailyRollups = fieldDailyRollups;
+        this.userBookingVersions = userBookingVersions;
+        this.chunkSize = properties.getSweeper().getChunkSize();
+        this.sweepTimer = Timer.builder("payment.sweeper.duration")
+                .description("Time taken by one expired-payment sweep")
+                .register(meterRegistry);
+        this.expiredPayments = Counter.builder("payment.sweeper.expired")
+                .description("VNPay payments marked EXPIRED by the sweeper")
+                .register(meterRegistry);
+        this.cancelledBookings = Counter.builder("payment.sweeper.cancelled.bookings")
+                .description("Held bookings cancelled because their payment expired")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${payment.vnpay.sweeper.interval:1m}",
+            initialDelayString = "${payment.vnpay.sweeper.interval:1m}")
+    void sweep() {
+        sweepTimer.record(() -> {
+            try {
+                Integer swept;
+                do {
+                    swept = transactionTemplate.execute(status -> sweepChunk(LocalDateTime.now()));
+                } while (swept != null && swept == chunkSize);
+            } catch (RuntimeException ex) {
+                log.warn("Expired payment sweep failed, retrying on next run: {}", ex.getMessage());
+            }
+        });
+    }
+
+    private int sweepChunk(LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("limit", chunkSize);
+        List<long[]> expired = jdbcTemplate.query(SELECT_EXPIRED_SQL, params,
+                (rs, rowNum) -> new long[]{rs.getLong("payment_id"), rs.getLong("booking_id")});
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> paymentIds = expired.stream().map(row -> row[0]).toList();
+        List<Long> bookingIds = expired.stream().map(row -> row[1]).toList();
+        jdbcTemplate.update(EXPIRE_PAYMENTS_SQL, new MapSqlParameterSource("paymentIds", paymentIds));
+        userBookingVersions.bumpForBookings(bookingIds);
+
+        // Bookings already confirmed another way, or locked by a concurrent callback, are left alone.
+        // A booking without a hold expiry predates the column and is held only by the expired payment.
+        List<BookedSlot> heldSlots = jdbcTemplate.query(SELECT_HELD_BOOKINGS_SQL,
+                new MapSqlParameterSource()
+                        .addValue("bookingIds", bookingIds)
+                        .addValue("now", now),
+                (rs, rowNum) -> new BookedSlot(
+                        rs.getLong("booking_id"),
+                        rs.getLong("field_id"),
+                        rs.getTimestamp("start_time").toLocalDateTime(),
+                        rs.getTimestamp("end_time").toLocalDateTime()));
+        if (!heldSlots.isEmpty()) {
+            List<Long> heldIds = heldSlots.stream().map(BookedSlot::bookingId).toList();
+            jdbcTemplate.update(CANCEL_BOOKINGS_SQL, new MapSqlParameterSource()
+                    .addValue("bookingIds", heldIds)
+                    .addValue("reason", BookingHoldReleaser.HOLD_EXPIRED_REASON)
+                    .addValue("now", now));
+            bookingSlotClaims.release(heldIds);
+            fieldDailyRollups.slotsCancelled(heldSlots);
+            heldSlots.forEach(slot -> bookingSlotIndex.track(slot, false));
+        }
+
+        expiredPayments.increment(expired.size());
+        cancelledBookings.increment(heldSlots.size());
+        log.info("Expired {} pending VNPay payments and cancelled {} held bookings", expired.size(), heldSlots.size());
+        return expired.size();
+    }
+}
@@ -4,16 +4,19 @@ import com.mini.soccer.dto.response.PaymentResponse;
 import com.mini.soccer.enums.BookingStatus;
 import com.mini.soccer.enums.PaymentStatus;
 import com.mini.soccer.model.Booking;
+import com.mini.soccer.model.Money;
 import com.mini.soccer.model.Payment;
 import com.mini.soccer.repository.BookingRepository;
 import com.mini.soccer.repository.PaymentRepository;
+import com.mini.soccer.service.booking.BookingSlotIndex;
+import com.mini.soccer.service.booking.UserBookingVersions;
+import com.mini.soccer.service.dashboard.FieldDailyRollups;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -29,6 +32,9 @@ public class VnPayCallbackService {
     private final PaymentRepository paymentRepository;
     private final BookingRepository bookingRepository;
     private final IVnPayService vnPayService;
+    private final BookingSlotIndex bookingSlotIndex;
+    private final FieldDailyRollups fieldDailyRollups;
+    private final UserBookingVersions userBookingVersions;
 
     @Transactional
     public PaymentResponse handleCallback(Map<String, String> vnpParams) {
@@ -44,11 +50,12 @@ public class VnPayCallbackService {
         Payment payment = locatePayment(txnRef)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment not found for transaction reference"));
 
-        BigDecimal reportedAmount = parseAmount(vnpParams.get("vnp_Amount"));
-        if (reportedAmount != null && payment.getAmount() != null && payment.getAmount().compareTo(reportedAmount) != 0) {
+        Money reportedAmount = parseAmount(vnpParams.get("vnp_Amount"));
+        if (reportedAmount != null && payment.getAmount() != null && !payment.getAmount().equals(reportedAmount)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Payment amount does not match VNPay callback");
         }
 
+        PaymentStatus previousStatus = payment.getStatus();
         String responseCode = vnpParams.get("vnp_ResponseCode");
         String transactionStatus = vnpParams.get("vnp_TransactionStatus");
 
@@ -65,16 +72,29 @@ public class VnPayCallbackService {
             payment.setStatus(PaymentStatus.PAID);
             payment.setPaidAt(parsePayDate(vnpParams.get("vnp_PayDate")));
             payment.setRefundedAt(null);
-
-            Booking booking = payment.getBooking();
-            booking.setStatus(BookingStatus.CONFIRMED);
-            bookingRepository.save(booking);
-        } else {
+            payment.setExpiresAt(null);
+
+            // Lock the booking so an expiring hold cannot cancel it while it is being confirmed.
+            Booking booking = bookingRepository.findByIdForUpdate(payment.getBooking().getBookingId())
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking not found"));
+            if (BookingStatus.CANCELLED.equals(booking.getStatus())) {
+                // The slot was released on cancellation and may be taken already; refund instead of reviving it.
+                payment.setStatus(PaymentStatus.REFUND_PENDING);
+            } else {
+                booking.setStatus(BookingStatus.CONFIRMED);
+                booking.setHoldExpiresAt(null);
+                bookingRepository.save(booking);
+                bookingSlotIndex.track(booking);
+            }
+        } else if (!PaymentStatus.EXPIRED.equals(previousStatus)) {
             payment.setStatus(PaymentStatus.PENDING);
             payment.setPaidAt(null);
         }
 
         Payment saved = paymentRepository.save(payment);
+        fieldDailyRollups.paymentChanged(saved.getBooking(), previousStatus, saved.getAmount(),
+                saved.getStatus(), saved.getAmount());
+        userBookingVersions.bump(saved.getBooking().getUser().getUserId());
         return toPaymentResponse(saved);
     }
 
@@ -86,12 +106,12 @@ public class VnPayCallbackService {
         return paymentRepository.findByTransactionCode(txnRef);
     }
 
-    private BigDecimal parseAmount(String amount) {
+    private Money parseAmount(String amount) {
         if (amount == null || amount.isBlank()) {
             return null;
         }
         try {
-            return new BigDecimal(amount).movePointLeft(2);
+            return Money.ofMinor(Long.parseLong(amount));
         } catch (NumberFormatException ex) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid VNPay amount format");
         }
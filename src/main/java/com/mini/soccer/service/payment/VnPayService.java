@@ -1,13 +1,12 @@
 package com.mini.soccer.service.payment;
 
 import com.mini.soccer.config.VnPayProperties;
+import com.mini.soccer.model.Money;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -24,7 +23,7 @@ public class VnPayService implements IVnPayService {
     private final VnPayProperties properties;
 
     @Override
-    public String createPaymentUrl(BigDecimal amount,
+    public String createPaymentUrl(Money amount,
                                    String orderInfo,
                                    String transactionRef,
                                    String clientIp) {
@@ -81,7 +80,7 @@ public class VnPayService implements IVnPayService {
         return expectedHash.equalsIgnoreCase(providedHash);
     }
 
-    private Map<String, String> buildBaseParams(BigDecimal amount,
+    private Map<String, String> buildBaseParams(Money amount,
                                                 String orderInfo,
                                                 String transactionRef,
                                                 String clientIp) {
@@ -99,7 +98,7 @@ public class VnPayService implements IVnPayService {
         params.put("vnp_ReturnUrl", properties.getReturnUrl());
         params.put("vnp_IpAddr", clientIp);
         params.put("vnp_CreateDate", now.format(DATE_TIME_FORMATTER));
-        params.put("vnp_ExpireDate", now.plusMinutes(15).format(DATE_TIME_FORMATTER));
+        params.put("vnp_ExpireDate", now.plusMinutes(properties.getExpireMinutes()).format(DATE_TIME_FORMATTER));
         return params;
     }
 
@@ -115,11 +114,9 @@ public class VnPayService implements IVnPayService {
         return java.net.URLEncoder.encode(value, StandardCharsets.UTF_8);
     }
 
-    private String toVnPayAmount(BigDecimal amount) {
-        return amount
-                .multiply(BigDecimal.valueOf(100))
-                .setScale(0, RoundingMode.HALF_UP)
-                .toPlainString();
+    // VNPay expects the amount times 100, which is exactly the minor unit count.
+    private String toVnPayAmount(Money amount) {
+        return Long.toString(amount.minorUnits());
     }
 
     private String hmacSHA512(String secret, String data) {
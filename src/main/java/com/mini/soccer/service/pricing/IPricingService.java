@@ -0,0 +1,30 @@
+package com.mini.soccer.service.pricing;
+
+import com.mini.soccer.dto.request.HolidayRequest;
+import com.mini.soccer.dto.request.PricingRuleRequest;
+import com.mini.soccer.dto.response.HolidayResponse;
+import com.mini.soccer.dto.response.PriceQuoteResponse;
+import com.mini.soccer.dto.response.PricingRuleResponse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface IPricingService {
+
+    PriceQuoteResponse getQuote(Long fieldId, LocalDateTime start, LocalDateTime end);
+
+    List<PricingRuleResponse> getRules();
+
+    PricingRuleResponse createRule(PricingRuleRequest request);
+
+    PricingRuleResponse updateRule(Long pricingRuleId, PricingRuleRequest request);
+
+    void deleteRule(Long pricingRuleId);
+
+    List<HolidayResponse> getHolidays();
+
+    HolidayResponse saveHoliday(HolidayRequest request);
+
+    void deleteHoliday(LocalDate date);
+}
@@ -0,0 +1,36 @@
+package com.mini.soccer.service.pricing;
+
+import com.mini.soccer.model.Money;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Price of a booking range. Amounts are in minor currency units (1/100).
+ *
+ * @param totalMinor         amount due for the whole range
+ * @param pricePerHourMinor  average hourly rate over the range, as recorded on the booking
+ * @param segments           consecutive stretches charged at the same hourly rate
+ */
+public record PriceQuote(Long fieldId,
+                         LocalDateTime startTime,
+                         LocalDateTime endTime,
+                         long totalMinor,
+                         long pricePerHourMinor,
+                         List<Segment> segments) {
+
+    public Money totalAmount() {
+        return Money.ofMinor(totalMinor);
+    }
+
+    public Money pricePerHour() {
+        return Money.ofMinor(pricePerHourMinor);
+    }
+
+    public record Segment(LocalDateTime startTime, LocalDateTime endTime, long pricePerHourMinor) {
+
+        public Money pricePerHour() {
+            return Money.ofMinor(pricePerHourMinor);
+        }
+    }
+}
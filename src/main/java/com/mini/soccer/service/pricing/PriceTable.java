@@ -0,0 +1,38 @@
+package com.mini.soccer.service.pricing;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+
+/**
+ * Hourly rate of one field, in minor currency units, for every slot of each
+ * weekday plus a row used on holidays.
+ */
+final class PriceTable {
+
+    static final int HOLIDAY_ROW = 7;
+
+    private final long[][] rates;
+
+    PriceTable(int slotsPerDay, long baseRate) {
+        rates = new long[HOLIDAY_ROW + 1][slotsPerDay];
+        for (long[] row : rates) {
+            Arrays.fill(row, baseRate);
+        }
+    }
+
+    static int rowOf(DayOfWeek dayOfWeek) {
+        return dayOfWeek.getValue() - 1;
+    }
+
+    void fill(int row, int fromSlot, int toSlot, long rate) {
+        Arrays.fill(rates[row], fromSlot, toSlot, rate);
+    }
+
+    long rate(int row, int slot) {
+        return rates[row][slot];
+    }
+
+    int slotsPerDay() {
+        return rates[0].length;
+    }
+}
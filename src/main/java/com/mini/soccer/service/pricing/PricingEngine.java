@@ -0,0 +1,241 @@
+package com.mini.soccer.service.pricing;
+
+import com.mini.soccer.config.BookingProperties;
+import com.mini.soccer.model.Field;
+import com.mini.soccer.model.Holiday;
+import com.mini.soccer.model.PricingRule;
+import com.mini.soccer.repository.HolidayRepository;
+import com.mini.soccer.repository.PricingRuleRepository;
+import com.mini.soccer.service.field.FieldCatalog;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Prices booking ranges from per-field rate tables compiled from the field's base
+ * price, the admin pricing rules and the holiday calendar. Quotes walk the table
+ * slot by slot in integer minor units and never touch the database; the tables are
+ * recompiled after local rule changes, whenever the field catalog version moves, and
+ * periodically for rule changes on other nodes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PricingEngine {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    // Lower priorities are applied first so higher ones overwrite them; field rules win ties.
+    private static final Comparator<PricingRule> APPLY_ORDER = Comparator
+            .comparingInt(PricingRule::getPriority)
+            .thenComparing(rule -> rule.getField() != null)
+            .thenComparing(PricingRule::getPricingRuleId);
+
+    private final FieldCatalog fieldCatalog;
+    private final PricingRuleRepository pricingRuleRepository;
+    private final HolidayRepository holidayRepository;
+    private final BookingProperties properties;
+    private volatile Snapshot snapshot;
+    private volatile boolean stale = true;
+
+    @PostConstruct
+    void warmUp() {
+        try {
+            ensureLoaded();
+        } catch (RuntimeException ex) {
+            log.warn("Pricing tables warm-up failed, retrying on first quote: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Prices {@code [start, end)} on the field. Both ends must be aligned to the slot length.
+     */
+    public PriceQuote quote(Long fieldId, LocalDateTime start, LocalDateTime end) {
+        if (!fieldCatalog.contains(fieldId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Field not found");
+        }
+        Snapshot current = ensureLoaded();
+        if (current.catalogVersion() != fieldCatalog.version()) {
+            // Field prices changed, here or on another node, since the last compile.
+            stale = true;
+            current = ensureLoaded();
+        }
+        PriceTable table = current.tables().get(fieldId);
+        if (table == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Field not found");
+        }
+        return quote(fieldId, table, current.holidays(), start, end);
+    }
+
+    /**
+     * Recompiles the tables on the next quote once the surrounding transaction commits.
+     */
+    public void invalidate() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stale = true;
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stale = true;
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${booking.pricing.refresh-interval:1m}",
+            initialDelayString = "${booking.pricing.refresh-interval:1m}")
+    void refresh() {
+        stale = true;
+        try {
+            ensureLoaded();
+        } catch (RuntimeException ex) {
+            log.warn("Pricing tables refresh failed, keeping the previous tables: {}", ex.getMessage());
+        }
+    }
+
+    private PriceQuote quote(Long fieldId, PriceTable table, Set<LocalDate> holidays,
+                             LocalDateTime start, LocalDateTime end) {
+        int slotMinutes = properties.getSlotMinutes();
+        int slotCount = (int) (Duration.between(start, end).toMinutes() / slotMinutes);
+        List<PriceQuote.Segment> segments = new ArrayList<>();
+
+        LocalDate day = start.toLocalDate();
+        int row = rowOf(day, holidays);
+        int slot = (start.getHour() * 60 + start.getMinute()) / slotMinutes;
+        long rateSum = 0;
+        long segmentRate = -1;
+        int segmentStart = 0;
+        for (int i = 0; i < slotCount; i++, slot++) {
+            if (slot == table.slotsPerDay()) {
+                slot = 0;
+                day = day.plusDays(1);
+                row = rowOf(day, holidays);
+            }
+            long rate = table.rate(row, slot);
+            rateSum += rate;
+            if (rate != segmentRate) {
+                if (i > 0) {
+                    segments.add(segment(start, segmentStart, i, slotMinutes, segmentRate));
+                }
+                segmentRate = rate;
+                segmentStart = i;
+            }
+        }
+        if (slotCount > 0) {
+            segments.add(segment(start, segmentStart, slotCount, slotMinutes, segmentRate));
+        }
+
+        // Sum of hourly rates over the slots, times the slot length in hours.
+        long totalMinor = divideHalfUp(rateSum * slotMinutes, 60);
+        long pricePerHourMinor = slotCount > 0 ? divideHalfUp(rateSum, slotCount) : 0;
+        return new PriceQuote(fieldId, start, end, totalMinor, pricePerHourMinor, segments);
+    }
+
+    private Snapshot ensureLoaded() {
+        Snapshot current = snapshot;
+        if (current != null && !stale) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot != null && !stale) {
+                return snapshot;
+            }
+            stale = false;
+            try {
+                snapshot = compile();
+            } catch (RuntimeException ex) {
+                stale = true;
+                if (snapshot == null) {
+                    throw ex;
+                }
+                log.warn("Recompiling pricing tables failed, serving the previous tables: {}", ex.getMessage());
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot compile() {
+        int slotMinutes = properties.getSlotMinutes();
+        int slotsPerDay = MINUTES_PER_DAY / slotMinutes;
+        long catalogVersion = fieldCatalog.version();
+        List<PricingRule> rules = pricingRuleRepository.findAllWithField().stream()
+                .sorted(APPLY_ORDER)
+                .toList();
+
+        Map<Long, PriceTable> tables = new HashMap<>();
+        for (Field field : fieldCatalog.all()) {
+            PriceTable table = new PriceTable(slotsPerDay, field.getPricePerHour().minorUnits());
+            for (PricingRule rule : rules) {
+                if (rule.getField() == null || rule.getField().getFieldId().equals(field.getFieldId())) {
+                    apply(table, rule, slotMinutes);
+                }
+            }
+            tables.put(field.getFieldId(), table);
+        }
+        Set<LocalDate> holidays = holidayRepository.findAll().stream()
+                .map(Holiday::getHolidayDate)
+                .collect(Collectors.toUnmodifiableSet());
+        log.info("Compiled pricing tables for {} fields from {} rules and {} holidays",
+                tables.size(), rules.size(), holidays.size());
+        return new Snapshot(catalogVersion, Map.copyOf(tables), holidays);
+    }
+
+    private static void apply(PriceTable table, PricingRule rule, int slotMinutes) {
+        int fromSlot = minuteOfDay(rule.getStartTime()) / slotMinutes;
+        int toSlot = LocalTime.MIDNIGHT.equals(rule.getEndTime())
+                ? table.slotsPerDay()
+                : minuteOfDay(rule.getEndTime()) / slotMinutes;
+        long rate = rule.getPricePerHour().minorUnits();
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            if ((rule.getDaysMask() & (1 << PriceTable.rowOf(dayOfWeek))) != 0) {
+                table.fill(PriceTable.rowOf(dayOfWeek), fromSlot, toSlot, rate);
+            }
+        }
+        if (rule.isHolidays()) {
+            table.fill(PriceTable.HOLIDAY_ROW, fromSlot, toSlot, rate);
+        }
+    }
+
+    private static int rowOf(LocalDate day, Set<LocalDate> holidays) {
+        return holidays.contains(day) ? PriceTable.HOLIDAY_ROW : PriceTable.rowOf(day.getDayOfWeek());
+    }
+
+    private static PriceQuote.Segment segment(LocalDateTime start, int fromSlot, int toSlot,
+                                              int slotMinutes, long rate) {
+        return new PriceQuote.Segment(
+                start.plusMinutes((long) fromSlot * slotMinutes),
+                start.plusMinutes((long) toSlot * slotMinutes),
+                rate
+        );
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static long divideHalfUp(long dividend, long divisor) {
+        return (dividend + divisor / 2) / divisor;
+    }
+
+    private record Snapshot(long catalogVersion, Map<Long, PriceTable> tables, Set<LocalDate> holidays) {
+    }
+}
@@ -0,0 +1,204 @@
+package com.mini.soccer.service.pricing;
+
+import com.mini.soccer.config.BookingProperties;
+import com.mini.soccer.dto.request.HolidayRequest;
+import com.mini.soccer.dto.request.PricingRuleRequest;
+import com.mini.soccer.dto.response.HolidayResponse;
+import com.mini.soccer.dto.response.PriceQuoteResponse;
+import com.mini.soccer.dto.response.PriceSegmentResponse;
+import com.mini.soccer.dto.response.PricingRuleResponse;
+import com.mini.soccer.model.Field;
+import com.mini.soccer.model.Holiday;
+import com.mini.soccer.model.Money;
+import com.mini.soccer.model.PricingRule;
+import com.mini.soccer.repository.HolidayRepository;
+import com.mini.soccer.repository.PricingRuleRepository;
+import com.mini.soccer.service.booking.BookingSlotClaims;
+import com.mini.soccer.service.field.FieldCatalog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PricingService implements IPricingService {
+
+    private static final Duration MAX_QUOTE_RANGE = Duration.ofDays(31);
+
+    private final PricingEngine pricingEngine;
+    private final PricingRuleRepository pricingRuleRepository;
+    private final HolidayRepository holidayRepository;
+    private final FieldCatalog fieldCatalog;
+    private final BookingSlotClaims bookingSlotClaims;
+    private final BookingProperties properties;
+
+    @Override
+    public PriceQuoteResponse getQuote(Long fieldId, LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "End time must be after start time");
+        }
+        if (Duration.between(start, end).compareTo(MAX_QUOTE_RANGE) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Quotes are limited to 31 days");
+        }
+        bookingSlotClaims.validateAlignment(start, end);
+
+        PriceQuote quote = pricingEngine.quote(fieldId, start, end);
+        return PriceQuoteResponse.builder()
+                .fieldId(quote.fieldId())
+                .startTime(quote.startTime())
+                .endTime(quote.endTime())
+                .pricePerHour(quote.pricePerHour())
+                .totalAmount(quote.totalAmount())
+                .segments(quote.segments().stream()
+                        .map(segment -> PriceSegmentResponse.builder()
+                                .startTime(segment.startTime())
+                                .endTime(segment.endTime())
+                                .pricePerHour(segment.pricePerHour())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    @Override
+    public List<PricingRuleResponse> getRules() {
+        return pricingRuleRepository.findAllWithField().stream()
+                .map(this::toRuleResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public PricingRuleResponse createRule(PricingRuleRequest request) {
+        PricingRule rule = new PricingRule();
+        applyRequest(rule, request);
+        PricingRule saved = pricingRuleRepository.save(rule);
+        pricingEngine.invalidate();
+        return toRuleResponse(saved);
+    }
+
+    @Override
+    @Transactional
+    public PricingRuleResponse updateRule(Long pricingRuleId, PricingRuleRequest request) {
+        PricingRule rule = pricingRuleRepository.findById(pricingRuleId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Pricing rule not found"));
+        applyRequest(rule, request);
+        PricingRule saved = pricingRuleRepository.save(rule);
+        pricingEngine.invalidate();
+        return toRuleResponse(saved);
+    }
+
+    @Override
+    @Transactional
+    public void deleteRule(Long pricingRuleId) {
+        if (!pricingRuleRepository.existsById(pricingRuleId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Pricing rule not found");
+        }
+        pricingRuleRepository.deleteById(pricingRuleId);
+        pricingEngine.invalidate();
+    }
+
+    @Override
+    public List<HolidayResponse> getHolidays() {
+        return holidayRepository.findAll(Sort.by("holidayDate")).stream()
+                .map(this::toHolidayResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public HolidayResponse saveHoliday(HolidayRequest request) {
+        Holiday saved = holidayRepository.save(Holiday.builder()
+                .holidayDate(request.getDate())
+                .name(request.getName().trim())
+                .build());
+        pricingEngine.invalidate();
+        return toHolidayResponse(saved);
+    }
+
+    @Override
+    @Transactional
+    public void deleteHoliday(LocalDate date) {
+        if (!holidayRepository.existsById(date)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Holiday not found");
+        }
+        holidayRepository.deleteById(date);
+        pricingEngine.invalidate();
+    }
+
+    private void applyRequest(PricingRule rule, PricingRuleRequest request) {
+        Set<DayOfWeek> days = request.getDaysOfWeek() != null ? request.getDaysOfWeek() : Set.of();
+        if (days.isEmpty() && !request.isHolidays()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A pricing rule must apply to some days or to holidays");
+        }
+        validateWindow(request.getStartTime(), request.getEndTime());
+
+        Field field = null;
+        if (request.getFieldId() != null) {
+            field = fieldCatalog.require(request.getFieldId());
+        }
+        int daysMask = 0;
+        for (DayOfWeek day : days) {
+            daysMask |= 1 << (day.getValue() - 1);
+        }
+
+        rule.setField(field);
+        rule.setName(request.getName().trim());
+        rule.setDaysMask(daysMask);
+        rule.setHolidays(request.isHolidays());
+        rule.setStartTime(request.getStartTime());
+        rule.setEndTime(request.getEndTime());
+        rule.setPricePerHour(Money.of(request.getPricePerHour()));
+        rule.setPriority(request.getPriority());
+    }
+
+    private void validateWindow(LocalTime start, LocalTime end) {
+        int slotMinutes = properties.getSlotMinutes();
+        int startMinute = start.getHour() * 60 + start.getMinute();
+        int endMinute = LocalTime.MIDNIGHT.equals(end) ? 24 * 60 : end.getHour() * 60 + end.getMinute();
+        if (start.getSecond() != 0 || end.getSecond() != 0
+                || startMinute % slotMinutes != 0 || endMinute % slotMinutes != 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Rule times must align to " + slotMinutes + "-minute slots");
+        }
+        if (startMinute >= endMinute) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "End time must be after start time; split overnight windows into two rules");
+        }
+    }
+
+    private PricingRuleResponse toRuleResponse(PricingRule rule) {
+        return PricingRuleResponse.builder()
+                .pricingRuleId(rule.getPricingRuleId())
+                .fieldId(rule.getField() != null ? rule.getField().getFieldId() : null)
+                .name(rule.getName())
+                .daysOfWeek(Arrays.stream(DayOfWeek.values())
+                        .filter(day -> (rule.getDaysMask() & (1 << (day.getValue() - 1))) != 0)
+                        .toList())
+                .holidays(rule.isHolidays())
+                .startTime(rule.getStartTime())
+                .endTime(rule.getEndTime())
+                .pricePerHour(rule.getPricePerHour())
+                .priority(rule.getPriority())
+                .build();
+    }
+
+    private HolidayResponse toHolidayResponse(Holiday holiday) {
+        return HolidayResponse.builder()
+                .date(holiday.getHolidayDate())
+                .name(holiday.getName())
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.mini.soccer.service.user;
+
+import com.mini.soccer.dto.request.RegisterRequest;
+
+public interface IUserService {
+
+    void register(RegisterRequest request);
+
+    /**
+     * Invalidates every access token issued to the user so far, e.g. after a role change.
+     */
+    void revokeTokens(Long userId);
+}
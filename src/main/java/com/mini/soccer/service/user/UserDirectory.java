@@ -0,0 +1,298 @@
+package com.mini.soccer.service.user;
+
+import com.mini.soccer.model.User;
+import com.mini.soccer.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded LRU cache of users indexed by id and phone number, plus a Bloom filter of
+ * every registered phone number. Cached users are detached copies shared between
+ * requests and must never be modified. Entries expire after a TTL so changes made on
+ * other nodes are picked up; local changes evict the user after commit.
+ * <p>
+ * The phone filter is loaded at startup and extended with users created since the
+ * last refresh. A phone it has never seen was not registered as of that refresh;
+ * registrations made on other nodes since then are still rejected by the unique key
+ * on {@code users.phone_number}.
+ */
+@Slf4j
+@Component
+public class UserDirectory {
+
+    private static final double PHONE_FILTER_FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_PHONE_FILTER_CAPACITY = 1024;
+    private static final String COUNT_SQL = "select count(*) from users";
+    private static final String SELECT_PHONES_SQL = "select user_id, phone_number from users where user_id > ?";
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<Long, Entry> entries;
+    private final Map<String, Long> idsByPhone = new HashMap<>();
+    private long invalidations;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+    private final Counter phoneFilterNegatives;
+    private volatile PhoneFilter phoneFilter;
+
+    public UserDirectory(UserRepository userRepository,
+                         JdbcTemplate jdbcTemplate,
+                         MeterRegistry meterRegistry,
+                         @Value("${users.directory.max-size:10000}") int maxSize,
+                         @Value("${users.directory.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() <= UserDirectory.this.maxSize) {
+                    return false;
+                }
+                idsByPhone.remove(eldest.getValue().user().getPhoneNumber());
+                evictionCounter.increment();
+                return true;
+            }
+        };
+        this.hitCounter = Counter.builder("user.directory.hits")
+                .description("User lookups answered from the directory cache")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("user.directory.misses")
+                .description("User lookups that went to the database")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("user.directory.evictions")
+                .description("Users dropped from the directory cache to stay within its size")
+                .register(meterRegistry);
+        this.phoneFilterNegatives = Counter.builder("user.directory.phone.filter.negatives")
+                .description("Registrations whose duplicate phone check was skipped by the phone filter")
+                .register(meterRegistry);
+        Gauge.builder("user.directory.size", this, UserDirectory::size)
+                .description("Users currently held in the directory cache")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void warmUp() {
+        try {
+            ensurePhoneFilter();
+        } catch (RuntimeException ex) {
+            log.warn("Phone filter warm-up failed, retrying on first use: {}", ex.getMessage());
+        }
+    }
+
+    public Optional<User> findById(Long userId) {
+        User cached;
+        synchronized (entries) {
+            cached = live(userId);
+        }
+        if (cached != null) {
+            hitCounter.increment();
+            return Optional.of(cached);
+        }
+        missCounter.increment();
+        long seen = invalidationCount();
+        return userRepository.findById(userId).map(user -> put(user, seen));
+    }
+
+    public Optional<User> findByPhoneNumber(String phoneNumber) {
+        User cached = null;
+        synchronized (entries) {
+            Long userId = idsByPhone.get(phoneNumber);
+            if (userId != null) {
+                cached = live(userId);
+            }
+        }
+        if (cached != null) {
+            hitCounter.increment();
+            return Optional.of(cached);
+        }
+        missCounter.increment();
+        long seen = invalidationCount();
+        return userRepository.findByPhoneNumber(phoneNumber).map(user -> put(user, seen));
+    }
+
+    /**
+     * {@code false} only if the phone number is known not to be registered, so the
+     * duplicate check can be skipped. Falls back to {@code true} while the filter is
+     * unavailable.
+     */
+    public boolean mayBeRegistered(String phoneNumber) {
+        PhoneFilter current;
+        try {
+            current = ensurePhoneFilter();
+        } catch (RuntimeException ex) {
+            return true;
+        }
+        if (current.filter().mightContain(phoneNumber)) {
+            return true;
+        }
+        phoneFilterNegatives.increment();
+        return false;
+    }
+
+    /**
+     * Records a user inserted on the caller's transaction once it commits.
+     */
+    public void registered(User user) {
+        Long userId = user.getUserId();
+        String phoneNumber = user.getPhoneNumber();
+        afterCommit(() -> {
+            PhoneFilter current = phoneFilter;
+            if (current != null) {
+                current.filter().add(phoneNumber);
+            }
+            invalidate(userId);
+        });
+    }
+
+    /**
+     * Drops the user from the cache once the caller's transaction commits, e.g. after
+     * a profile or role change.
+     */
+    public void evict(Long userId) {
+        afterCommit(() -> invalidate(userId));
+    }
+
+    @Scheduled(fixedDelayString = "${users.directory.refresh-interval:1m}",
+            initialDelayString = "${users.directory.refresh-interval:1m}")
+    void refreshPhoneFilter() {
+        try {
+            PhoneFilter current = phoneFilter;
+            if (current == null || current.filter().isSaturated()) {
+                phoneFilter = loadPhoneFilter();
+                return;
+            }
+            long lastUserId = addPhonesAfter(current.filter(), current.lastUserId());
+            phoneFilter = new PhoneFilter(current.filter(), lastUserId);
+        } catch (RuntimeException ex) {
+            log.warn("Phone filter refresh failed, keeping the previous filter: {}", ex.getMessage());
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private User live(Long userId) {
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.loadedAtNanos() >= ttlNanos) {
+            remove(userId);
+            return null;
+        }
+        return entry.user();
+    }
+
+    private User put(User loaded, long seenInvalidations) {
+        User copy = User.builder()
+                .userId(loaded.getUserId())
+                .fullName(loaded.getFullName())
+                .phoneNumber(loaded.getPhoneNumber())
+                .password(loaded.getPassword())
+                .role(loaded.getRole())
+                .build();
+        synchronized (entries) {
+            // A user invalidated while it was being read may have been loaded stale; serve it uncached.
+            if (maxSize > 0 && invalidations == seenInvalidations) {
+                remove(copy.getUserId());
+                entries.put(copy.getUserId(), new Entry(copy, System.nanoTime()));
+                idsByPhone.put(copy.getPhoneNumber(), copy.getUserId());
+            }
+        }
+        return copy;
+    }
+
+    private void invalidate(Long userId) {
+        synchronized (entries) {
+            invalidations++;
+            remove(userId);
+        }
+    }
+
+    private void remove(Long userId) {
+        Entry removed = entries.remove(userId);
+        if (removed != null) {
+            idsByPhone.remove(removed.user().getPhoneNumber(), userId);
+        }
+    }
+
+    private long invalidationCount() {
+        synchronized (entries) {
+            return invalidations;
+        }
+    }
+
+    private PhoneFilter ensurePhoneFilter() {
+        PhoneFilter current = phoneFilter;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (phoneFilter == null) {
+                phoneFilter = loadPhoneFilter();
+            }
+            return phoneFilter;
+        }
+    }
+
+    private PhoneFilter loadPhoneFilter() {
+        Integer count = jdbcTemplate.queryForObject(COUNT_SQL, Integer.class);
+        // Sized for twice the current users so it stays accurate while registrations come in.
+        int capacity = Math.max(MIN_PHONE_FILTER_CAPACITY, (count != null ? count : 0) * 2);
+        BloomFilter filter = new BloomFilter(capacity, PHONE_FILTER_FALSE_POSITIVE_RATE);
+        long lastUserId = addPhonesAfter(filter, 0);
+        log.info("Loaded phone filter for {} users", count);
+        return new PhoneFilter(filter, lastUserId);
+    }
+
+    private long addPhonesAfter(BloomFilter filter, long afterUserId) {
+        long[] lastUserId = {afterUserId};
+        jdbcTemplate.query(SELECT_PHONES_SQL, rs -> {
+            filter.add(rs.getString(2));
+            lastUserId[0] = Math.max(lastUserId[0], rs.getLong(1));
+        }, afterUserId);
+        return lastUserId[0];
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Entry(User user, long loadedAtNanos) {
+    }
+
+    private record PhoneFilter(BloomFilter filter, long lastUserId) {
+    }
+}
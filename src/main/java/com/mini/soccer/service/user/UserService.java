@@ -0,0 +1,72 @@
+package com.mini.soccer.service.user;
+
+import com.mini.soccer.dto.request.RegisterRequest;
+import com.mini.soccer.enums.UserRole;
+import com.mini.soccer.model.User;
+import com.mini.soccer.repository.UserRepository;
+import com.mini.soccer.security.jwt.TokenVersions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserService implements IUserService {
+
+    private final UserRepository userRepository;
+    private final UserDirectory userDirectory;
+    private final TokenVersions tokenVersions;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void register(RegisterRequest request) {
+        String phoneNumber = request.getPhoneNumber();
+        if (userDirectory.mayBeRegistered(phoneNumber) && userRepository.existsByPhoneNumber(phoneNumber)) {
+            throw phoneTaken();
+        }
+
+        // Hashed before the insert transaction, so no pooled connection is held while BCrypt runs.
+        User user = User.builder()
+                .fullName(request.getFullName())
+                .phoneNumber(phoneNumber)
+                .password(passwordEncoder.encode(request.getPassword()))
+                .role(UserRole.USER)
+                .build();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.saveAndFlush(user);
+                userDirectory.registered(user);
+            });
+        } catch (DataIntegrityViolationException ex) {
+            // Registered concurrently, or on another node since the phone filter was last refreshed.
+            if (userRepository.existsByPhoneNumber(phoneNumber)) {
+                throw phoneTaken();
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    @Transactional
+    public void revokeTokens(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found");
+        }
+        tokenVersions.revokeAll(userId);
+        userDirectory.evict(userId);
+    }
+
+    private static ResponseStatusException phoneTaken() {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "Phone number already registered");
+    }
+}
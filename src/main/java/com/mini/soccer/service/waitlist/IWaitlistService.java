@@ -0,0 +1,15 @@
+package com.mini.soccer.service.waitlist;
+
+import com.mini.soccer.dto.request.WaitlistRequest;
+import com.mini.soccer.dto.response.WaitlistEntryResponse;
+
+import java.util.List;
+
+public interface IWaitlistService {
+
+    WaitlistEntryResponse joinWaitlist(WaitlistRequest request);
+
+    WaitlistEntryResponse withdraw(Long waitlistEntryId);
+
+    List<WaitlistEntryResponse> getCurrentUserEntries();
+}
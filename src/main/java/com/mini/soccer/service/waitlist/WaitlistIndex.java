@@ -0,0 +1,187 @@
+package com.mini.soccer.service.waitlist;
+
+import com.mini.soccer.repository.WaitlistEntryRepository;
+import com.mini.soccer.repository.projection.WaitingEntry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory copy of the WAITING waitlist entries, ordered per field by requested
+ * start time. A released slot is matched with a range lookup instead of a query
+ * against the waitlist table. Entries are rebuilt from the table on startup and
+ * entries created on other nodes are picked up by a periodic refresh.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitlistIndex {
+
+    private static final Comparator<WaitingEntry> FIRST_COME = Comparator
+            .comparing(WaitingEntry::createdAt)
+            .thenComparing(WaitingEntry::waitlistEntryId);
+    // Overlap between refreshes so entries committed late on another node are not missed.
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final Map<Long, FieldEntries> entriesByField = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    private LocalDateTime lastRefreshAt;
+
+    @PostConstruct
+    void warmUp() {
+        try {
+            ensureLoaded();
+        } catch (RuntimeException ex) {
+            log.warn("Waitlist index warm-up failed, retrying on first use: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Waiting entries of the field whose requested range lies within
+     * {@code [start, end)}, first come first served.
+     */
+    public List<WaitingEntry> match(Long fieldId, LocalDateTime start, LocalDateTime end) {
+        ensureLoaded();
+        FieldEntries entries = entriesByField.get(fieldId);
+        return entries != null ? entries.within(start, end) : List.of();
+    }
+
+    /**
+     * Adds the entry once the surrounding transaction commits.
+     */
+    public void add(WaitingEntry entry) {
+        afterCommit(() -> fieldEntries(entry.fieldId()).add(entry));
+    }
+
+    /**
+     * Drops the entry once the surrounding transaction commits.
+     */
+    public void remove(WaitingEntry entry) {
+        afterCommit(() -> fieldEntries(entry.fieldId()).remove(entry));
+    }
+
+    @Scheduled(fixedDelayString = "${booking.waitlist.refresh-interval:30s}",
+            initialDelayString = "${booking.waitlist.refresh-interval:30s}")
+    void refresh() {
+        try {
+            if (!loaded) {
+                ensureLoaded();
+                return;
+            }
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<WaitingEntry> created = waitlistEntryRepository.findWaitingEntriesCreatedSince(
+                    lastRefreshAt.minus(REFRESH_OVERLAP));
+            created.forEach(entry -> fieldEntries(entry.fieldId()).add(entry));
+            lastRefreshAt = startedAt;
+        } catch (RuntimeException ex) {
+            log.warn("Waitlist index refresh failed, retrying on next run: {}", ex.getMessage());
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<WaitingEntry> entries = waitlistEntryRepository.findWaitingEntries(startedAt);
+            entries.forEach(entry -> fieldEntries(entry.fieldId()).add(entry));
+            lastRefreshAt = startedAt;
+            loaded = true;
+            log.info("Waitlist index loaded {} waiting entries", entries.size());
+        }
+    }
+
+    private FieldEntries fieldEntries(Long fieldId) {
+        return entriesByField.computeIfAbsent(fieldId, id -> new FieldEntries());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class FieldEntries {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final NavigableMap<LocalDateTime, Map<Long, WaitingEntry>> byStart = new TreeMap<>();
+
+        List<WaitingEntry> within(LocalDateTime start, LocalDateTime end) {
+            lock.readLock().lock();
+            try {
+                List<WaitingEntry> result = new ArrayList<>();
+                for (Map<Long, WaitingEntry> sameStart : byStart.subMap(start, true, end, false).values()) {
+                    for (WaitingEntry entry : sameStart.values()) {
+                        if (!entry.endTime().isAfter(end)) {
+                            result.add(entry);
+                        }
+                    }
+                }
+                result.sort(FIRST_COME);
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void add(WaitingEntry entry) {
+            lock.writeLock().lock();
+            try {
+                byStart.computeIfAbsent(entry.startTime(), start -> new HashMap<>())
+                        .put(entry.waitlistEntryId(), entry);
+                pruneEnded();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(WaitingEntry entry) {
+            lock.writeLock().lock();
+            try {
+                Map<Long, WaitingEntry> sameStart = byStart.get(entry.startTime());
+                if (sameStart != null) {
+                    sameStart.remove(entry.waitlistEntryId());
+                    if (sameStart.isEmpty()) {
+                        byStart.remove(entry.startTime());
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // Entries for slots that have already started can never be offered.
+        private void pruneEnded() {
+            byStart.headMap(LocalDateTime.now(), false).clear();
+        }
+    }
+}
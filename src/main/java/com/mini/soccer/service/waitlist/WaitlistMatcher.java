@@ -0,0 +1,99 @@
+package com.mini.soccer.service.waitlist;
+
+import com.mini.soccer.config.BookingProperties;
+import com.mini.soccer.enums.WaitlistStatus;
+import com.mini.soccer.model.WaitlistEntry;
+import com.mini.soccer.repository.WaitlistEntryRepository;
+import com.mini.soccer.repository.projection.BookedSlot;
+import com.mini.soccer.repository.projection.WaitingEntry;
+import com.mini.soccer.service.booking.BookingSlotIndex;
+import com.mini.soccer.service.booking.IBookingService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Offers every slot that becomes free to the waitlist. Each matching entry, first
+ * come first served, gets the slot as a held booking that lapses after the offer
+ * TTL, at which point the slot is released and offered to the next entry.
+ */
+@Slf4j
+@Component
+public class WaitlistMatcher implements BookingSlotIndex.SlotListener {
+
+    private final WaitlistIndex waitlistIndex;
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final IBookingService bookingService;
+    private final BookingSlotIndex bookingSlotIndex;
+    private final BookingProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public WaitlistMatcher(WaitlistIndex waitlistIndex,
+                           WaitlistEntryRepository waitlistEntryRepository,
+                           IBookingService bookingService,
+                           BookingSlotIndex bookingSlotIndex,
+                           BookingProperties properties,
+                           PlatformTransactionManager transactionManager) {
+        this.waitlistIndex = waitlistIndex;
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.bookingService = bookingService;
+        this.bookingSlotIndex = bookingSlotIndex;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void registerListener() {
+        bookingSlotIndex.addListener(this);
+    }
+
+    @Override
+    public void slotChanged(BookedSlot slot, boolean active) {
+        if (active || !slot.endTime().isAfter(LocalDateTime.now())) {
+            return;
+        }
+        // Runs after the releasing transaction has committed; keep its caller out of the offer work.
+        Thread.ofVirtual().name("waitlist-offer").start(() -> offer(slot));
+    }
+
+    @Override
+    public void fieldReloaded(Long fieldId) {
+        // Slots freed on other nodes are offered by the node that freed them.
+    }
+
+    void offer(BookedSlot slot) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = slot.startTime().isAfter(now) ? slot.startTime() : now;
+        for (WaitingEntry candidate : waitlistIndex.match(slot.fieldId(), from, slot.endTime())) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> offerTo(candidate));
+            } catch (RuntimeException ex) {
+                log.warn("Offering field {} at {} to waitlist entry {} failed: {}",
+                        slot.fieldId(), candidate.startTime(), candidate.waitlistEntryId(), ex.getMessage());
+            }
+        }
+    }
+
+    private void offerTo(WaitingEntry candidate) {
+        WaitlistEntry entry = waitlistEntryRepository.findByIdForUpdate(candidate.waitlistEntryId()).orElse(null);
+        if (entry == null || !WaitlistStatus.WAITING.equals(entry.getStatus())) {
+            // Withdrawn or offered through another node since this index saw it.
+            waitlistIndex.remove(candidate);
+            return;
+        }
+        LocalDateTime holdUntil = LocalDateTime.now().plus(properties.getWaitlist().getOfferTtl());
+        bookingService.holdSlotForWaitlist(entry.getUser().getUserId(), candidate.fieldId(),
+                        candidate.startTime(), candidate.endTime(), holdUntil)
+                .ifPresent(booking -> {
+                    entry.setStatus(WaitlistStatus.OFFERED);
+                    entry.setOfferedBookingId(booking.getBookingId());
+                    entry.setOfferExpiresAt(holdUntil);
+                    waitlistIndex.remove(candidate);
+                    log.info("Offered booking {} to waitlist entry {}", booking.getBookingId(), entry.getWaitlistEntryId());
+                });
+    }
+}
@@ -0,0 +1,139 @@
+package com.mini.soccer.service.waitlist;
+
+import com.mini.soccer.dto.request.WaitlistRequest;
+import com.mini.soccer.dto.response.WaitlistEntryResponse;
+import com.mini.soccer.enums.UserRole;
+import com.mini.soccer.enums.WaitlistStatus;
+import com.mini.soccer.model.Field;
+import com.mini.soccer.model.User;
+import com.mini.soccer.model.WaitlistEntry;
+import com.mini.soccer.repository.WaitlistEntryRepository;
+import com.mini.soccer.repository.projection.WaitingEntry;
+import com.mini.soccer.security.userdetails.AppUserDetails;
+import com.mini.soccer.service.booking.BookingSlotClaims;
+import com.mini.soccer.service.booking.BookingSlotIndex;
+import com.mini.soccer.service.field.FieldCatalog;
+import com.mini.soccer.service.user.UserDirectory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WaitlistService implements IWaitlistService {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final FieldCatalog fieldCatalog;
+    private final UserDirectory userDirectory;
+    private final BookingSlotIndex bookingSlotIndex;
+    private final BookingSlotClaims bookingSlotClaims;
+    private final WaitlistIndex waitlistIndex;
+
+    @Override
+    @Transactional
+    public WaitlistEntryResponse joinWaitlist(WaitlistRequest request) {
+        if (!request.getStartTime().isBefore(request.getEndTime())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "End time must be after start time");
+        }
+        bookingSlotClaims.validateAlignment(request.getStartTime(), request.getEndTime());
+
+        AppUserDetails principal = getCurrentUserDetails();
+        User user = userDirectory.findById(principal.getUserId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
+        Field field = fieldCatalog.require(request.getFieldId());
+
+        if (!bookingSlotIndex.overlapsInDatabase(field.getFieldId(), request.getStartTime(), request.getEndTime())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Time slot is available, book it directly");
+        }
+        if (waitlistEntryRepository.existsByUser_UserIdAndField_FieldIdAndStartTimeAndEndTimeAndStatus(
+                user.getUserId(), field.getFieldId(), request.getStartTime(), request.getEndTime(),
+                WaitlistStatus.WAITING)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "You are already on the waitlist for this slot");
+        }
+
+        WaitlistEntry saved = waitlistEntryRepository.save(WaitlistEntry.builder()
+                .user(user)
+                .field(field)
+                .startTime(request.getStartTime())
+                .endTime(request.getEndTime())
+                .status(WaitlistStatus.WAITING)
+                .createdAt(LocalDateTime.now())
+                .build());
+        waitlistIndex.add(toWaitingEntry(saved));
+        return toResponse(saved);
+    }
+
+    @Override
+    @Transactional
+    public WaitlistEntryResponse withdraw(Long waitlistEntryId) {
+        WaitlistEntry entry = waitlistEntryRepository.findByIdForUpdate(waitlistEntryId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Waitlist entry not found"));
+
+        AppUserDetails principal = getCurrentUserDetails();
+        if (!isAdmin(principal) && !entry.getUser().getUserId().equals(principal.getUserId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You are not allowed to modify this waitlist entry");
+        }
+        if (!WaitlistStatus.WAITING.equals(entry.getStatus())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Only waiting entries can be withdrawn");
+        }
+
+        entry.setStatus(WaitlistStatus.WITHDRAWN);
+        waitlistIndex.remove(toWaitingEntry(entry));
+        return toResponse(entry);
+    }
+
+    @Override
+    public List<WaitlistEntryResponse> getCurrentUserEntries() {
+        AppUserDetails principal = getCurrentUserDetails();
+        return waitlistEntryRepository.findUpcomingByUser(principal.getUserId(), LocalDateTime.now()).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    private AppUserDetails getCurrentUserDetails() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AppUserDetails principal)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication is required");
+        }
+        return principal;
+    }
+
+    private boolean isAdmin(AppUserDetails principal) {
+        return principal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(role -> UserRole.ADMIN.name().equals(role));
+    }
+
+    private WaitingEntry toWaitingEntry(WaitlistEntry entry) {
+        return new WaitingEntry(
+                entry.getWaitlistEntryId(),
+                entry.getField().getFieldId(),
+                entry.getStartTime(),
+                entry.getEndTime(),
+                entry.getCreatedAt()
+        );
+    }
+
+    private WaitlistEntryResponse toResponse(WaitlistEntry entry) {
+        return WaitlistEntryResponse.builder()
+                .waitlistEntryId(entry.getWaitlistEntryId())
+                .fieldId(entry.getField().getFieldId())
+                .fieldName(entry.getField().getName())
+                .startTime(entry.getStartTime())
+                .endTime(entry.getEndTime())
+                .status(entry.getStatus().name())
+                .createdAt(entry.getCreatedAt())
+                .offeredBookingId(entry.getOfferedBookingId())
+                .offerExpiresAt(entry.getOfferExpiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.mini.soccer.benchmark;
+
+import com.mini.soccer.service.booking.CodeTrigramIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the trigram index with what {@code LIKE '%x%'} has to do: test every
+ * code. The scan runs over strings already in memory, so it is a lower bound for
+ * the SQL path, which additionally reads the rows from disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class BookingCodeSearchBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int bookings;
+
+    private CodeTrigramIndex index;
+    private List<String> codes;
+    private String[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        index = new CodeTrigramIndex();
+        codes = new ArrayList<>(bookings);
+        for (int i = 0; i < bookings; i++) {
+            String code = "BK" + String.format("%8s", Long.toString(i * 7919L, 36)).replace(' ', '0')
+                    .toUpperCase(Locale.ROOT);
+            codes.add(code);
+            index.add(i, code);
+        }
+        // Support staff usually type the tail of a code read out by the customer.
+        queries = new String[1024];
+        for (int i = 0; i < queries.length; i++) {
+            String code = codes.get(ThreadLocalRandom.current().nextInt(bookings));
+            queries[i] = code.substring(code.length() - 5);
+        }
+    }
+
+    @Benchmark
+    public long[] trigramIndex() {
+        return index.search(nextQuery(), 1_000);
+    }
+
+    @Benchmark
+    public int likeScan() {
+        String query = nextQuery();
+        int matches = 0;
+        for (String code : codes) {
+            if (code.contains(query)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private String nextQuery() {
+        next = (next + 1) & (queries.length - 1);
+        return queries[next];
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[]{BookingCodeSearchBenchmark.class.getSimpleName()});
+    }
+}
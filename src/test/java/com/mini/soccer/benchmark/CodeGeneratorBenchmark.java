@@ -0,0 +1,87 @@
+package com.mini.soccer.benchmark;
+
+import com.mini.soccer.config.BookingProperties;
+import com.mini.soccer.service.code.BlockCodeGenerator;
+import com.mini.soccer.service.code.CodeBlockAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compares block-allocated codes with the previous random-code-plus-existence-check
+ * loop. Database round trips are simulated with a fixed park so both variants pay the
+ * same latency per query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@Threads(8)
+public class CodeGeneratorBenchmark {
+
+    private static final long ROUND_TRIP_NANOS = TimeUnit.MICROSECONDS.toNanos(300);
+
+    @Param({"1000"})
+    public int blockSize;
+
+    @Param({"0", "500000"})
+    public int existingCodes;
+
+    private BlockCodeGenerator generator;
+    private Set<String> issuedCodes;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        AtomicLong counter = new AtomicLong();
+        CodeBlockAllocator allocator = (name, size) -> {
+            LockSupport.parkNanos(ROUND_TRIP_NANOS);
+            return counter.getAndAdd(size);
+        };
+        BookingProperties properties = new BookingProperties();
+        properties.getCodes().setBlockSize(blockSize);
+        generator = new BlockCodeGenerator(allocator, properties);
+
+        issuedCodes = ConcurrentHashMap.newKeySet();
+        while (issuedCodes.size() < existingCodes) {
+            issuedCodes.add("BK" + ThreadLocalRandom.current().nextInt(100000, 999999));
+        }
+    }
+
+    @Benchmark
+    public String blockAllocated() {
+        return generator.nextBookingCode();
+    }
+
+    @Benchmark
+    public String randomWithExistenceCheck() {
+        String code;
+        do {
+            code = "BK" + ThreadLocalRandom.current().nextInt(100000, 999999);
+            LockSupport.parkNanos(ROUND_TRIP_NANOS);
+        } while (!issuedCodes.add(code));
+        return code;
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[]{CodeGeneratorBenchmark.class.getSimpleName()});
+    }
+}
@@ -0,0 +1,71 @@
+package com.mini.soccer.benchmark;
+
+import com.mini.soccer.security.jwt.JwtUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verification cost per authenticated request: the previous filter path, which
+ * rebuilt the key and parser and verified the token twice, against one verification
+ * with the pre-built parser, with and without the verified-claims cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "YXNzZWN1cmUtZGVmYXVsdC1qd3Qtc2VjcmV0LXN0cmluZw==";
+
+    private JwtUtils uncached;
+    private JwtUtils cached;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncached = new JwtUtils(SECRET, 3_600_000, 0);
+        cached = new JwtUtils(SECRET, 3_600_000, 10_000);
+        token = cached.generateToken("0900000001", 7L, "USER");
+    }
+
+    @Benchmark
+    public String doubleParse() {
+        Jwts.parser().verifyWith(signingKey()).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(signingKey()).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String singleParse() {
+        return uncached.verify(token).map(Claims::getSubject).orElseThrow();
+    }
+
+    @Benchmark
+    public String cachedClaims() {
+        return cached.verify(token).map(Claims::getSubject).orElseThrow();
+    }
+
+    private static SecretKey signingKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[]{JwtVerificationBenchmark.class.getSimpleName()});
+    }
+}
@@ -0,0 +1,97 @@
+package com.mini.soccer.benchmark;
+
+import com.mini.soccer.model.Money;
+import com.mini.soccer.model.MoneyConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Money handling for one paid VNPay booking: price the range, convert and check the
+ * submitted amount, encode it for the payment URL, check the amount reported by the
+ * callback and convert the amount back for the database column and the JSON response.
+ * Compares the previous {@link BigDecimal} arithmetic with {@link Money}, whose path
+ * prices slot by slot like {@code PricingEngine}. Run with {@code -prof gc} to see the
+ * allocation per booking.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private static final long MINUTES = 90;
+    private static final int SLOT_MINUTES = 15;
+
+    private final MoneyConverter converter = new MoneyConverter();
+    private BigDecimal pricePerHour;
+    private BigDecimal requestedAmount;
+    private String reportedAmount;
+    private long[] slotRates;
+
+    @Setup
+    public void setUp() {
+        pricePerHour = new BigDecimal("300000.00");
+        requestedAmount = new BigDecimal("450000");
+        reportedAmount = "45000000";
+        slotRates = new long[(int) (MINUTES / SLOT_MINUTES)];
+        Arrays.fill(slotRates, pricePerHour.unscaledValue().longValueExact());
+    }
+
+    @Benchmark
+    public boolean bigDecimal() {
+        BigDecimal hours = BigDecimal.valueOf(MINUTES)
+                .divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP);
+        BigDecimal total = pricePerHour.multiply(hours).setScale(2, RoundingMode.HALF_UP);
+
+        BigDecimal amount = requestedAmount.setScale(2, RoundingMode.HALF_UP);
+        if (amount.compareTo(total) != 0) {
+            return false;
+        }
+        String vnPayAmount = amount.multiply(BigDecimal.valueOf(100))
+                .setScale(0, RoundingMode.HALF_UP)
+                .toPlainString();
+        BigDecimal reported = new BigDecimal(reportedAmount).movePointLeft(2);
+        return reported.compareTo(amount) == 0 && !vnPayAmount.isEmpty();
+    }
+
+    @Benchmark
+    public boolean money(Blackhole blackhole) {
+        long rateSum = 0;
+        for (long rate : slotRates) {
+            rateSum += rate;
+        }
+        // Hourly rates summed over the slots times the slot length in hours, rounded half up.
+        Money total = Money.ofMinor((rateSum * SLOT_MINUTES + 30) / 60);
+
+        Money amount = Money.of(requestedAmount);
+        if (!amount.equals(total)) {
+            return false;
+        }
+        String vnPayAmount = Long.toString(amount.minorUnits());
+        Money reported = Money.ofMinor(Long.parseLong(reportedAmount));
+        // The payment's amount column and the amount in the JSON response.
+        blackhole.consume(converter.convertToDatabaseColumn(amount));
+        blackhole.consume(amount.toBigDecimal());
+        return reported.equals(amount) && !vnPayAmount.isEmpty();
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[]{MoneyBenchmark.class.getSimpleName(), "-prof", "gc"});
+    }
+}
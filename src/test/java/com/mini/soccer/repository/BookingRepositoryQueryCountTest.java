@@ -0,0 +1,133 @@
+package com.mini.soccer.repository;
+
+import com.mini.soccer.dto.response.AdminBookingSummaryResponse;
+import com.mini.soccer.enums.BookingStatus;
+import com.mini.soccer.enums.UserRole;
+import com.mini.soccer.model.Booking;
+import com.mini.soccer.model.Field;
+import com.mini.soccer.model.Money;
+import com.mini.soccer.model.User;
+import com.mini.soccer.repository.projection.BookingExportRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "booking.export.fetch-size=1000"
+})
+class BookingRepositoryQueryCountTest {
+
+    private static final int BOOKINGS = 30;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withNano(0);
+        for (int i = 0; i < BOOKINGS; i++) {
+            User user = User.builder()
+                    .fullName("User " + i)
+                    .phoneNumber(String.format("09%08d", i))
+                    .password("secret")
+                    .role(UserRole.USER)
+                    .build();
+            Field field = Field.builder()
+                    .name("Field " + i)
+                    .pricePerHour(Money.of(BigDecimal.valueOf(100_000)))
+                    .build();
+            entityManager.persist(user);
+            entityManager.persist(field);
+            entityManager.persist(Booking.builder()
+                    .user(user)
+                    .field(field)
+                    .startTime(base.plusHours(i))
+                    .endTime(base.plusHours(i + 1))
+                    .totalAmount(Money.of(BigDecimal.valueOf(100_000)))
+                    .bookingCode(String.format("BK%08d", i))
+                    .status(BookingStatus.CONFIRMED)
+                    .createdAt(base.minusMinutes(i))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void offsetPageRunsOneSelectAndOneCount() {
+        Page<AdminBookingSummaryResponse> page = bookingRepository.findAdminSummaries(
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.getTotalElements()).isEqualTo(BOOKINGS);
+        assertThat(page.getContent().get(0).getUserFullName()).isEqualTo("User 0");
+        assertThat(page.getContent().get(0).getStatus()).isEqualTo("CONFIRMED");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void keysetPageRunsSingleSelect() {
+        List<AdminBookingSummaryResponse> rows = bookingRepository.findAdminSummariesByBookingCodeBefore(
+                "bk", LocalDateTime.now().plusYears(1), Long.MAX_VALUE, Limit.of(21));
+
+        assertThat(rows).hasSize(21);
+        assertThat(rows.get(20).getFieldName()).isEqualTo("Field 20");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void upcomingUserPageFetchesFieldsInSameSelect() {
+        Long userId = bookingRepository.findAll().get(0).getUser().getUserId();
+        statistics.clear();
+
+        List<Booking> rows = bookingRepository.findUserUpcomingPageAfter(
+                userId, LocalDateTime.now(), LocalDateTime.of(1000, 1, 1, 0, 0), Long.MIN_VALUE, Limit.of(10));
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getField().getName()).startsWith("Field ");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void exportStreamsRowsWithPaymentsFromOneSelect() {
+        LocalDateTime from = LocalDateTime.now();
+        try (Stream<BookingExportRow> rows = bookingRepository.streamExportRows(from, from.plusYears(1))) {
+            List<BookingExportRow> exported = rows.toList();
+
+            assertThat(exported).hasSize(BOOKINGS);
+            assertThat(exported.get(0).userFullName()).isEqualTo("User 0");
+            assertThat(exported.get(0).paymentStatus()).isNull();
+        }
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,93 @@
+package com.mini.soccer.security.jwt;
+
+import com.mini.soccer.security.userdetails.AppUserDetails;
+import com.mini.soccer.security.userdetails.AppUserDetailsService;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthTokenFilterTest {
+
+    private final JwtUtils jwtUtils = new JwtUtils("YXNzZWN1cmUtZGVmYXVsdC1qd3Qtc2VjcmV0LXN0cmluZw==", 60_000, 100);
+    private final AppUserDetailsService userDetailsService = mock(AppUserDetailsService.class);
+    private final TokenVersions tokenVersions = mock(TokenVersions.class);
+    private final RevokedTokens revokedTokens = new RevokedTokens(mock(JdbcTemplate.class));
+    private final AuthTokenFilter filter = new AuthTokenFilter(jwtUtils, userDetailsService, tokenVersions, revokedTokens);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(filter, "statelessPrincipal", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void statelessModeBuildsThePrincipalFromClaims() throws Exception {
+        String token = issueToken(7L, "ADMIN", 2);
+        when(tokenVersions.isRevoked(7L, 2)).thenReturn(false);
+
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        AppUserDetails principal = (AppUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertThat(principal.getUserId()).isEqualTo(7L);
+        assertThat(principal.getFullName()).isEqualTo("Test User");
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ADMIN");
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void revokedTokenLeavesTheRequestUnauthenticated() throws Exception {
+        String token = issueToken(7L, "USER", 1);
+        when(tokenVersions.isRevoked(7L, 1)).thenReturn(true);
+
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void loggedOutTokenIsRejectedWhileOtherTokensStillWork() throws Exception {
+        String loggedOut = issueToken(7L, "USER", 0);
+        String other = issueToken(7L, "USER", 0);
+        Claims claims = jwtUtils.verify(loggedOut).orElseThrow();
+        revokedTokens.add(claims.getId(), claims.getExpiration().getTime());
+
+        filter.doFilter(request(loggedOut), new MockHttpServletResponse(), new MockFilterChain());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+
+        filter.doFilter(request(other), new MockHttpServletResponse(), new MockFilterChain());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    private String issueToken(Long userId, String role, long tokenVersion) {
+        AppUserDetails user = AppUserDetails.fromClaims(userId, "Test User", "0900000001", List.of(role));
+        return jwtUtils.generateAccessToken(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()), tokenVersion);
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/bookings/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
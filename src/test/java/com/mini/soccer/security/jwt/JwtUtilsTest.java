@@ -0,0 +1,36 @@
+package com.mini.soccer.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilsTest {
+
+    private static final String SECRET = "YXNzZWN1cmUtZGVmYXVsdC1qd3Qtc2VjcmV0LXN0cmluZw==";
+
+    private final JwtUtils jwtUtils = new JwtUtils(SECRET, 60_000, 100);
+
+    @Test
+    void verifiesOnceAndServesRepeatsFromTheCache() {
+        String token = jwtUtils.generateToken("0900000001", 7L, "USER");
+
+        Optional<Claims> first = jwtUtils.verify(token);
+        Optional<Claims> second = jwtUtils.verify(token);
+
+        assertThat(first).map(Claims::getSubject).contains("0900000001");
+        assertThat(second.orElseThrow()).isSameAs(first.orElseThrow());
+    }
+
+    @Test
+    void rejectsTamperedAndExpiredTokens() {
+        String token = jwtUtils.generateToken("0900000001", 7L, "USER");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        String expired = new JwtUtils(SECRET, -1_000, 100).generateToken("0900000001", 7L, "USER");
+
+        assertThat(jwtUtils.verify(tampered)).isEmpty();
+        assertThat(jwtUtils.verify(expired)).isEmpty();
+    }
+}
@@ -0,0 +1,68 @@
+package com.mini.soccer.security.login;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LoginGuard guard = new LoginGuard(meterRegistry, 1, 1,
+            2, Duration.ofMinutes(1), 100, Duration.ofSeconds(1), 1000);
+
+    @AfterEach
+    void tearDown() {
+        guard.shutdown();
+    }
+
+    @Test
+    void phoneNumberIsLimitedAcrossAddresses() {
+        guard.submit("0900000001", "10.0.0.1", () -> "ok").join();
+        guard.submit("0900000001", "10.0.0.2", () -> "ok").join();
+
+        assertThatThrownBy(() -> guard.submit("0900000001", "10.0.0.3", () -> "ok"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(guard.submit("0900000002", "10.0.0.3", () -> "ok").join()).isEqualTo("ok");
+        assertThat(meterRegistry.counter("auth.login.rejected", "reason", "phone").count()).isEqualTo(1);
+    }
+
+    @Test
+    void loginIsRejectedWhenTheHashingQueueIsFull() {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = guard.submit("0900000001", "10.0.0.1", () -> {
+            started.countDown();
+            return await(release);
+        });
+        await(started);
+        CompletableFuture<String> queued = guard.submit("0900000002", "10.0.0.1", () -> "queued");
+
+        assertThatThrownBy(() -> guard.submit("0900000003", "10.0.0.1", () -> "ok"))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThat(meterRegistry.counter("auth.login.rejected", "reason", "busy").count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.join()).isEqualTo("done");
+        assertThat(queued.join()).isEqualTo("queued");
+    }
+
+    private static String await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+}
@@ -0,0 +1,82 @@
+package com.mini.soccer.service.booking;
+
+import com.mini.soccer.model.Booking;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingCodeIndexTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private BookingCodeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("""
+                create table bookings (
+                  booking_id bigint primary key,
+                  booking_code varchar(10) not null,
+                  created_at timestamp not null
+                )""");
+        index = new BookingCodeIndex(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void refreshPicksUpLateCommitsFromOldIdBlocks() {
+        insert(1L, LocalDateTime.now().minusDays(1));
+        index.load();
+        // Another node has moved far ahead in booking ids.
+        insert(5_000L, LocalDateTime.now());
+        index.refresh();
+
+        // An idle node commits a booking from the id block it reserved long ago.
+        insert(7L, LocalDateTime.now().minusSeconds(10));
+        index.refresh();
+
+        assertThat(index.search("00000001")).contains(List.of(1L));
+        assertThat(index.search("00005000")).contains(List.of(5_000L));
+        assertThat(index.search("00000007")).contains(List.of(7L));
+    }
+
+    @Test
+    void bookingsSeenByTrackAndRefreshAreIndexedOnce() {
+        index.load();
+        insert(3L, LocalDateTime.now());
+        index.track(Booking.builder().bookingId(3L).bookingCode(code(3L)).build());
+
+        index.refresh();
+        index.refresh();
+
+        assertThat(index.search("BK000")).contains(List.of(3L));
+    }
+
+    private void insert(long bookingId, LocalDateTime createdAt) {
+        jdbcTemplate.update("insert into bookings (booking_id, booking_code, created_at) values (?, ?, ?)",
+                bookingId, code(bookingId), Timestamp.valueOf(createdAt));
+    }
+
+    private static String code(long bookingId) {
+        return String.format("BK%08d", bookingId);
+    }
+}
@@ -0,0 +1,59 @@
+package com.mini.soccer.service.booking;
+
+import com.mini.soccer.enums.BookingStatus;
+import com.mini.soccer.model.Booking;
+import com.mini.soccer.model.Field;
+import com.mini.soccer.model.User;
+import com.mini.soccer.repository.BookingRepository;
+import com.mini.soccer.service.dashboard.FieldDailyRollups;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookingHoldReleaserTest {
+
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final BookingSlotClaims bookingSlotClaims = mock(BookingSlotClaims.class);
+    private final UserBookingVersions userBookingVersions = mock(UserBookingVersions.class);
+    private final BookingHoldReleaser releaser = new BookingHoldReleaser(bookingRepository, bookingSlotClaims,
+            mock(BookingSlotIndex.class), mock(FieldDailyRollups.class), userBookingVersions);
+
+    @Test
+    void cancelsOnlyBookingsStillHeldPastTheirExpiry() {
+        LocalDateTime now = LocalDateTime.now();
+        Booking expired = heldBooking(1L, BookingStatus.PENDING, now.minusMinutes(1));
+        Booking extended = heldBooking(2L, BookingStatus.PENDING, now.plusMinutes(10));
+        Booking paid = heldBooking(3L, BookingStatus.CONFIRMED, null);
+        when(bookingRepository.findAllByIdForUpdate(any())).thenReturn(List.of(expired, extended, paid));
+
+        int released = releaser.release(List.of(1L, 2L, 3L));
+
+        assertThat(released).isEqualTo(1);
+        assertThat(expired.getStatus()).isEqualTo(BookingStatus.CANCELLED);
+        assertThat(expired.getCancellationReason()).isEqualTo(BookingHoldReleaser.HOLD_EXPIRED_REASON);
+        assertThat(extended.getStatus()).isEqualTo(BookingStatus.PENDING);
+        assertThat(paid.getStatus()).isEqualTo(BookingStatus.CONFIRMED);
+        verify(bookingSlotClaims).release(List.of(1L));
+        verify(userBookingVersions).bump(List.of(7L));
+    }
+
+    private Booking heldBooking(Long bookingId, BookingStatus status, LocalDateTime holdExpiresAt) {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        return Booking.builder()
+                .bookingId(bookingId)
+                .user(User.builder().userId(7L).build())
+                .field(Field.builder().fieldId(1L).build())
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .status(status)
+                .holdExpiresAt(holdExpiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.mini.soccer.service.booking;
+
+import com.mini.soccer.config.BookingProperties;
+import com.mini.soccer.config.VnPayProperties;
+import com.mini.soccer.repository.BookingRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookingHoldStoreTest {
+
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final BookingHoldReleaser bookingHoldReleaser = mock(BookingHoldReleaser.class);
+    private final BookingProperties properties = new BookingProperties();
+    private final BookingHoldStore store = new BookingHoldStore(bookingRepository, bookingHoldReleaser,
+            properties, new VnPayProperties());
+
+    @Test
+    void releasesExpiredHoldsLeftInTheDatabaseByOtherNodes() {
+        properties.getHolds().setReleaseBatchSize(2);
+        when(bookingRepository.findHeldBookings()).thenReturn(List.of());
+        when(bookingRepository.findExpiredHoldIds(any(), eq(Limit.of(2))))
+                .thenReturn(List.of(11L, 12L), List.of(13L), List.of());
+        when(bookingHoldReleaser.release(any())).thenReturn(2, 1);
+
+        store.releaseExpired();
+        // The next poll is within the sweep interval and only drains the local queue.
+        store.releaseExpired();
+
+        verify(bookingHoldReleaser).release(List.of(11L, 12L));
+        verify(bookingHoldReleaser).release(List.of(13L));
+        verify(bookingRepository, times(2)).findExpiredHoldIds(any(), any());
+    }
+}
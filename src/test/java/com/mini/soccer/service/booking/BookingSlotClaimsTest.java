@@ -0,0 +1,163 @@
+package com.mini.soccer.service.booking;
+
+import com.mini.soccer.config.BookingProperties;
+import com.mini.soccer.dto.request.BookingRequest;
+import com.mini.soccer.dto.response.BookingResponse;
+import com.mini.soccer.model.Booking;
+import com.mini.soccer.model.Field;
+import com.mini.soccer.model.User;
+import com.mini.soccer.repository.BookingRepository;
+import com.mini.soccer.repository.PaymentRepository;
+import com.mini.soccer.repository.projection.BookedSlot;
+import com.mini.soccer.security.userdetails.AppUserDetails;
+import com.mini.soccer.service.code.ICodeGenerator;
+import com.mini.soccer.service.dashboard.FieldDailyRollups;
+import com.mini.soccer.service.field.FieldCatalog;
+import com.mini.soccer.service.payment.IVnPayService;
+import com.mini.soccer.service.pricing.PriceQuote;
+import com.mini.soccer.service.pricing.PricingEngine;
+import com.mini.soccer.service.user.UserDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookingSlotClaimsTest {
+
+    private final LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(8).withMinute(0).withSecond(0).withNano(0);
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final FieldCatalog fieldCatalog = mock(FieldCatalog.class);
+    private final PricingEngine pricingEngine = mock(PricingEngine.class);
+    private final UserDirectory userDirectory = mock(UserDirectory.class);
+    private final ICodeGenerator codeGenerator = mock(ICodeGenerator.class);
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private BookingSlotClaims claims;
+    private BookingSlotIndex index;
+    private BookingService bookingService;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("""
+                create table booking_slots (
+                  field_id bigint not null,
+                  slot_start timestamp not null,
+                  booking_id bigint not null,
+                  primary key (field_id, slot_start)
+                )""");
+        BookingProperties properties = new BookingProperties();
+        claims = new BookingSlotClaims(jdbcTemplate, properties);
+        index = new BookingSlotIndex(bookingRepository, claims, mock(BookingSlotVersions.class));
+        bookingService = new BookingService(bookingRepository, userDirectory, fieldCatalog,
+                mock(PaymentRepository.class), mock(IVnPayService.class), index, mock(FieldBookingLocks.class),
+                claims, mock(BookingCodeIndex.class), mock(FieldDailyRollups.class), mock(BookingHoldStore.class),
+                codeGenerator, pricingEngine, mock(UserBookingVersions.class), properties);
+
+        when(userDirectory.findById(7L)).thenReturn(Optional.of(User.builder().userId(7L).build()));
+        when(fieldCatalog.require(10L)).thenReturn(Field.builder().fieldId(10L).name("Pitch A").build());
+        when(codeGenerator.nextBookingCode()).thenReturn("BK00000001");
+        when(pricingEngine.quote(eq(10L), any(), any())).thenAnswer(invocation -> new PriceQuote(10L,
+                invocation.getArgument(1), invocation.getArgument(2), 30_000_000L, 30_000_000L, List.of()));
+        when(bookingRepository.save(any())).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            booking.setBookingId(1L);
+            return booking;
+        });
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                AppUserDetails.fromClaims(7L, "Player", "0900000007", List.of("ROLE_USER")), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        database.shutdown();
+    }
+
+    @Test
+    void claimsEverySlotOfANewBooking() {
+        BookingResponse response = bookingService.createBooking(request(base, base.plusHours(1)));
+
+        assertThat(response.getBookingId()).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForList("select slot_start from booking_slots where booking_id = 1", Timestamp.class))
+                .extracting(Timestamp::toLocalDateTime)
+                .containsExactlyInAnyOrder(base, base.plusMinutes(15), base.plusMinutes(30), base.plusMinutes(45));
+    }
+
+    @Test
+    void rejectsSlotClaimedOnAnotherNodeThatThisIndexHasNotSeen() {
+        claim(99L, base.plusMinutes(30));
+        when(bookingRepository.findActiveSlotsByFieldEndingAfter(eq(10L), any(), any()))
+                .thenReturn(List.of(new BookedSlot(99L, 10L, base, base.plusHours(1))));
+
+        assertThatThrownBy(() -> bookingService.createBooking(request(base, base.plusHours(1))))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.CONFLICT);
+        // The field was resynced, so the next attempt is rejected in memory.
+        assertThat(index.overlaps(10L, base, base.plusHours(1))).isTrue();
+    }
+
+    @Test
+    void rejectsIndexHitConfirmedByClaimsBeforeInserting() {
+        when(bookingRepository.findActiveSlotsEndingAfter(any(), any()))
+                .thenReturn(List.of(new BookedSlot(99L, 10L, base, base.plusHours(1))));
+        claim(99L, base);
+
+        assertThatThrownBy(() -> bookingService.createBooking(request(base, base.plusMinutes(30))))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.CONFLICT);
+        verify(bookingRepository, never()).save(any());
+    }
+
+    @Test
+    void rejectsRangesNotAlignedToSlots() {
+        assertThatThrownBy(() -> bookingService.createBooking(request(base.plusMinutes(5), base.plusHours(1))))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThatThrownBy(() -> claims.validateAlignment(base, base.plusHours(1).plusSeconds(1)))
+                .isInstanceOf(ResponseStatusException.class);
+        claims.validateAlignment(base.plusMinutes(15), base.plusMinutes(45));
+        verify(bookingRepository, never()).save(any());
+    }
+
+    private void claim(long bookingId, LocalDateTime slotStart) {
+        jdbcTemplate.update("insert into booking_slots (field_id, slot_start, booking_id) values (10, ?, ?)",
+                Timestamp.valueOf(slotStart), bookingId);
+    }
+
+    private static BookingRequest request(LocalDateTime start, LocalDateTime end) {
+        BookingRequest request = new BookingRequest();
+        request.setFieldId(10L);
+        request.setStartTime(start);
+        request.setEndTime(end);
+        return request;
+    }
+}
@@ -0,0 +1,114 @@
+package com.mini.soccer.service.booking;
+
+import com.mini.soccer.enums.BookingStatus;
+import com.mini.soccer.model.Booking;
+import com.mini.soccer.model.Field;
+import com.mini.soccer.repository.BookingRepository;
+import com.mini.soccer.repository.projection.BookedSlot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookingSlotIndexTest {
+
+    private final LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(8).withMinute(0).withSecond(0).withNano(0);
+    private final BookingRepository repository = mock(BookingRepository.class);
+    private final BookingSlotClaims claims = mock(BookingSlotClaims.class);
+    private final BookingSlotVersions versions = mock(BookingSlotVersions.class);
+    private BookingSlotIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findActiveSlotsEndingAfter(any(), any())).thenReturn(List.of(
+                new BookedSlot(1L, 10L, base, base.plusHours(6)),
+                new BookedSlot(2L, 10L, base.plusHours(7), base.plusHours(8))
+        ));
+        when(versions.all()).thenReturn(Map.of(10L, 3L));
+        index = new BookingSlotIndex(repository, claims, versions);
+    }
+
+    @Test
+    void detectsOverlapWithLongEarlierBooking() {
+        assertThat(index.overlaps(10L, base.plusHours(3), base.plusHours(4))).isTrue();
+        assertThat(index.overlaps(10L, base.plusHours(6), base.plusHours(7))).isFalse();
+        assertThat(index.overlaps(11L, base.plusHours(3), base.plusHours(4))).isFalse();
+    }
+
+    @Test
+    void trackingAddsAndReleasesSlots() {
+        Booking booking = Booking.builder()
+                .bookingId(3L)
+                .field(Field.builder().fieldId(10L).build())
+                .startTime(base.plusHours(6))
+                .endTime(base.plusHours(7))
+                .status(BookingStatus.CONFIRMED)
+                .build();
+
+        index.track(booking);
+        assertThat(index.overlaps(10L, base.plusHours(6).plusMinutes(30), base.plusHours(7))).isTrue();
+
+        booking.setStatus(BookingStatus.CANCELLED);
+        index.track(booking);
+        assertThat(index.overlaps(10L, base.plusHours(6), base.plusHours(7))).isFalse();
+        verify(versions, times(2)).bump(List.of(10L));
+    }
+
+    @Test
+    void staleHitIsNotConfirmedAndReloadsTheField() {
+        when(claims.anyClaimed(10L, base.plusHours(7), base.plusHours(8))).thenReturn(false);
+        when(repository.findActiveSlotsByFieldEndingAfter(eq(10L), any(), any()))
+                .thenReturn(List.of(new BookedSlot(1L, 10L, base, base.plusHours(6))));
+
+        assertThat(index.confirmedOverlaps(10L, base.plusHours(7), base.plusHours(8))).isFalse();
+        assertThat(index.overlaps(10L, base.plusHours(7), base.plusHours(8))).isFalse();
+    }
+
+    @Test
+    void resyncReloadsOnlyFieldsChangedElsewhere() {
+        index.overlaps(10L, base, base.plusHours(1));
+        when(versions.all()).thenReturn(Map.of(10L, 3L, 11L, 1L));
+        when(repository.findActiveSlotsByFieldEndingAfter(eq(11L), any(), any()))
+                .thenReturn(List.of(new BookedSlot(5L, 11L, base, base.plusHours(1))));
+
+        index.resyncChangedFields();
+
+        assertThat(index.overlaps(11L, base, base.plusHours(1))).isTrue();
+        verify(repository, never()).findActiveSlotsByFieldEndingAfter(eq(10L), any(), any());
+    }
+
+    @Test
+    void resyncSkipsVersionsWrittenByThisNode() {
+        Booking booking = Booking.builder()
+                .bookingId(3L)
+                .field(Field.builder().fieldId(10L).build())
+                .startTime(base.plusHours(6))
+                .endTime(base.plusHours(7))
+                .status(BookingStatus.CONFIRMED)
+                .build();
+        when(versions.bump(List.of(10L))).thenReturn(Map.of(10L, 4L), Map.of(10L, 6L));
+        index.overlaps(10L, base, base.plusHours(1));
+
+        index.track(booking);
+        when(versions.all()).thenReturn(Map.of(10L, 4L));
+        index.resyncChangedFields();
+        verify(repository, never()).findActiveSlotsByFieldEndingAfter(eq(10L), any(), any());
+
+        // Version 5 was written by another node before this node wrote 6.
+        index.track(booking);
+        when(versions.all()).thenReturn(Map.of(10L, 6L));
+        index.resyncChangedFields();
+        verify(repository).findActiveSlotsByFieldEndingAfter(eq(10L), any(), any());
+    }
+}
@@ -0,0 +1,48 @@
+package com.mini.soccer.service.booking;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CodeTrigramIndexTest {
+
+    @Test
+    void findsCodesContainingQueryIgnoringCase() {
+        CodeTrigramIndex index = new CodeTrigramIndex();
+        index.add(1L, "BK00000A1Z");
+        index.add(2L, "BK123456");
+        index.add(3L, "BK00000B1Z");
+        index.add(4L, "BK000000AA");
+
+        assertThat(index.search("a1z", 10)).containsExactly(1L);
+        assertThat(index.search("bk0000", 10)).containsExactlyInAnyOrder(1L, 3L, 4L);
+        assertThat(index.search("3456", 10)).containsExactly(2L);
+        assertThat(index.search("ZZZ", 10)).isEmpty();
+    }
+
+    @Test
+    void declinesQueriesItCannotAnswerCheaply() {
+        CodeTrigramIndex index = new CodeTrigramIndex();
+        for (long id = 0; id < 20; id++) {
+            index.add(id, String.format("BK%08d", id));
+        }
+
+        assertThat(index.search("BK", 100)).isNull();
+        assertThat(index.search("BK-1", 100)).isNull();
+        assertThat(index.search("BK000", 10)).isNull();
+        assertThat(index.search("BK000", 20)).hasSize(20);
+    }
+
+    @Test
+    void indexesEachBookingIdOnce() {
+        CodeTrigramIndex index = new CodeTrigramIndex();
+        for (long id = 0; id < 3000; id++) {
+            assertThat(index.add(id, String.format("BK%08d", id))).isTrue();
+        }
+
+        assertThat(index.add(42L, "BK00000042")).isFalse();
+        assertThat(index.add(2999L, "BK00002999")).isFalse();
+        assertThat(index.size()).isEqualTo(3000);
+        assertThat(index.search("00000042", 10)).containsExactly(42L);
+    }
+}
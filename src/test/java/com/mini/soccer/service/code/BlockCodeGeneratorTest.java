@@ -0,0 +1,59 @@
+package com.mini.soccer.service.code;
+
+import com.mini.soccer.config.BookingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlockCodeGeneratorTest {
+
+    private final List<String> allocatingThreads = new CopyOnWriteArrayList<>();
+    private final AtomicLong counter = new AtomicLong();
+    private final BlockCodeGenerator generator = new BlockCodeGenerator((name, size) -> {
+        allocatingThreads.add(Thread.currentThread().getName());
+        return counter.getAndAdd(size);
+    }, properties(10));
+
+    @AfterEach
+    void tearDown() {
+        generator.shutdown();
+    }
+
+    @Test
+    void blocksAreReservedOffTheCallingThread() {
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < 35; i++) {
+            codes.add(generator.nextBookingCode());
+        }
+
+        assertThat(codes).hasSize(35);
+        assertThat(allocatingThreads).isNotEmpty().allMatch("code-block-allocator"::equals);
+    }
+
+    @Test
+    void nextBlockIsReservedBeforeTheCurrentOneRunsOut() throws Exception {
+        generator.nextBookingCode();
+        for (int i = 0; i < 5; i++) {
+            generator.nextBookingCode();
+        }
+        long deadline = System.nanoTime() + 2_000_000_000L;
+        while (allocatingThreads.size() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(allocatingThreads).hasSize(2);
+    }
+
+    private static BookingProperties properties(int blockSize) {
+        BookingProperties properties = new BookingProperties();
+        properties.getCodes().setBlockSize(blockSize);
+        return properties;
+    }
+}
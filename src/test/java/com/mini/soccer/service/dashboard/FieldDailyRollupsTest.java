@@ -0,0 +1,54 @@
+package com.mini.soccer.service.dashboard;
+
+import com.mini.soccer.enums.PaymentStatus;
+import com.mini.soccer.model.Booking;
+import com.mini.soccer.model.Field;
+import com.mini.soccer.model.Money;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class FieldDailyRollupsTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final FieldDailyRollups rollups = new FieldDailyRollups(jdbcTemplate);
+    private final Booking booking = Booking.builder()
+            .field(Field.builder().fieldId(7L).build())
+            .startTime(LocalDateTime.of(2026, 5, 1, 18, 0))
+            .endTime(LocalDateTime.of(2026, 5, 1, 19, 30))
+            .build();
+
+    @Test
+    void refundRequestMovesAmountFromRevenueToPendingRefunds() {
+        Money amount = Money.ofMinor(30_000_000);
+
+        rollups.paymentChanged(booking, PaymentStatus.PAID, amount, PaymentStatus.REFUND_PENDING, amount);
+
+        ArgumentCaptor<Object[]> delta = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(anyString(), delta.capture());
+        assertThat(delta.getValue()).containsExactly(
+                7L, Date.valueOf("2026-05-01"), 0L, 0, 0,
+                new BigDecimal("-300000.00"), 1, new BigDecimal("300000.00"));
+    }
+
+    @Test
+    void unchangedPaymentWritesNothing() {
+        Money amount = Money.ofMinor(30_000_000);
+
+        rollups.paymentChanged(booking, PaymentStatus.PENDING, amount, PaymentStatus.PENDING, amount);
+        rollups.paymentChanged(booking, null, null, PaymentStatus.PENDING, amount);
+
+        verify(jdbcTemplate, never()).update(anyString(), ArgumentMatchers.<Object[]>any());
+    }
+}
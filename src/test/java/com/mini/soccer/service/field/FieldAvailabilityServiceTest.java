@@ -0,0 +1,128 @@
+package com.mini.soccer.service.field;
+
+import com.mini.soccer.config.BookingProperties;
+import com.mini.soccer.dto.response.FieldAvailabilityResponse;
+import com.mini.soccer.dto.response.TimeRangeResponse;
+import com.mini.soccer.repository.projection.BookedSlot;
+import com.mini.soccer.service.booking.BookingSlotIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FieldAvailabilityServiceTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(7);
+
+    private final BookingSlotIndex bookingSlotIndex = mock(BookingSlotIndex.class);
+    private final FieldCatalog fieldCatalog = mock(FieldCatalog.class);
+    private final FieldAvailabilityService service =
+            new FieldAvailabilityService(bookingSlotIndex, fieldCatalog, new BookingProperties());
+
+    @Test
+    void buildsEachDayBitmapOnceAndPatchesItOnNewBookings() {
+        when(fieldCatalog.contains(1L)).thenReturn(true);
+        when(bookingSlotIndex.slotsBetween(eq(1L), any(), any()))
+                .thenReturn(List.of(slot(1L, at(DAY, 10, 0), at(DAY, 11, 0))));
+
+        FieldAvailabilityResponse first = service.getAvailability(1L, at(DAY, 9, 0), at(DAY, 12, 0));
+        service.slotChanged(slot(2L, at(DAY, 11, 30), at(DAY, 11, 45)), true);
+        FieldAvailabilityResponse patched = service.getAvailability(1L, at(DAY, 9, 0), at(DAY, 12, 0));
+
+        assertThat(first.getBusySlots()).containsExactly(range(at(DAY, 10, 0), at(DAY, 11, 0)));
+        assertThat(first.getFreeSlots()).containsExactly(
+                range(at(DAY, 9, 0), at(DAY, 10, 0)),
+                range(at(DAY, 11, 0), at(DAY, 12, 0)));
+        assertThat(patched.getBusySlots()).containsExactly(
+                range(at(DAY, 10, 0), at(DAY, 11, 0)),
+                range(at(DAY, 11, 30), at(DAY, 11, 45)));
+        verify(bookingSlotIndex, times(1)).slotsBetween(1L, DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay());
+    }
+
+    @Test
+    void rebuildsDayBitmapAfterCancellation() {
+        when(fieldCatalog.contains(1L)).thenReturn(true);
+        BookedSlot booked = slot(1L, at(DAY, 10, 0), at(DAY, 11, 0));
+        when(bookingSlotIndex.slotsBetween(eq(1L), any(), any())).thenReturn(List.of(booked), List.of());
+
+        service.getAvailability(1L, at(DAY, 9, 0), at(DAY, 12, 0));
+        service.slotChanged(booked, false);
+        FieldAvailabilityResponse rebuilt = service.getAvailability(1L, at(DAY, 9, 0), at(DAY, 12, 0));
+
+        assertThat(rebuilt.getBusySlots()).isEmpty();
+        assertThat(rebuilt.getFreeSlots()).containsExactly(range(at(DAY, 9, 0), at(DAY, 12, 0)));
+        verify(bookingSlotIndex, times(2)).slotsBetween(1L, DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay());
+    }
+
+    @Test
+    void splitsBookingsAcrossMidnightIntoBothDays() {
+        LocalDate nextDay = DAY.plusDays(1);
+        when(fieldCatalog.contains(1L)).thenReturn(true);
+        when(bookingSlotIndex.slotsBetween(eq(1L), any(), any()))
+                .thenReturn(List.of(slot(1L, at(DAY, 23, 0), at(nextDay, 1, 0))));
+
+        FieldAvailabilityResponse response = service.getAvailability(1L, at(DAY, 22, 0), at(nextDay, 2, 0));
+
+        assertThat(response.getBusySlots()).containsExactly(range(at(DAY, 23, 0), at(nextDay, 1, 0)));
+        assertThat(response.getFreeSlots()).containsExactly(
+                range(at(DAY, 22, 0), at(DAY, 23, 0)),
+                range(at(nextDay, 1, 0), at(nextDay, 2, 0)));
+        verify(bookingSlotIndex).slotsBetween(1L, DAY.atStartOfDay(), nextDay.atStartOfDay());
+        verify(bookingSlotIndex).slotsBetween(1L, nextDay.atStartOfDay(), nextDay.plusDays(1).atStartOfDay());
+    }
+
+    @Test
+    void widensUnalignedRangesAndBookingsToWholeSlots() {
+        when(fieldCatalog.contains(1L)).thenReturn(true);
+        when(bookingSlotIndex.slotsBetween(eq(1L), any(), any()))
+                .thenReturn(List.of(slot(1L, at(DAY, 10, 5), at(DAY, 10, 20))));
+
+        FieldAvailabilityResponse response = service.getAvailability(1L, at(DAY, 9, 50), at(DAY, 10, 40));
+
+        assertThat(response.getFrom()).isEqualTo(at(DAY, 9, 45));
+        assertThat(response.getTo()).isEqualTo(at(DAY, 10, 45));
+        assertThat(response.getBusySlots()).containsExactly(range(at(DAY, 10, 0), at(DAY, 10, 30)));
+        assertThat(response.getFreeSlots()).containsExactly(
+                range(at(DAY, 9, 45), at(DAY, 10, 0)),
+                range(at(DAY, 10, 30), at(DAY, 10, 45)));
+    }
+
+    @Test
+    void limitsRangesToThirtyOneDays() {
+        when(fieldCatalog.contains(1L)).thenReturn(true);
+        LocalDateTime from = DAY.atStartOfDay();
+
+        FieldAvailabilityResponse longest = service.getAvailability(1L, from, from.plusDays(31));
+
+        assertThat(longest.getFreeSlots()).containsExactly(range(from, from.plusDays(31)));
+        verify(bookingSlotIndex, times(31)).slotsBetween(eq(1L), any(), any());
+        assertThatThrownBy(() -> service.getAvailability(1L, from, from.plusDays(31).plusMinutes(1)))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private static BookedSlot slot(Long bookingId, LocalDateTime start, LocalDateTime end) {
+        return new BookedSlot(bookingId, 1L, start, end);
+    }
+
+    private static LocalDateTime at(LocalDate day, int hour, int minute) {
+        return day.atTime(hour, minute);
+    }
+
+    private static TimeRangeResponse range(LocalDateTime start, LocalDateTime end) {
+        return TimeRangeResponse.builder().startTime(start).endTime(end).build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.mini.soccer.service.field;
+
+import com.mini.soccer.model.Field;
+import com.mini.soccer.repository.FieldRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FieldCatalogTest {
+
+    private final FieldRepository fieldRepository = mock(FieldRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final FieldCatalog catalog = new FieldCatalog(fieldRepository, jdbcTemplate);
+
+    @BeforeEach
+    void setUp() {
+        when(fieldRepository.findAll()).thenReturn(List.of(field(1L, "Pitch A")));
+        when(jdbcTemplate.update(anyString(), ArgumentMatchers.<Object[]>any())).thenReturn(1);
+    }
+
+    @Test
+    void localChangeIsAppliedToACopyOfTheSnapshot() {
+        stubVersions(3L, 4L);
+        List<Field> before = catalog.all();
+
+        catalog.saved(field(2L, "Pitch B"));
+
+        assertThat(catalog.version()).isEqualTo(4L);
+        assertThat(catalog.all()).extracting(Field::getFieldId).containsExactly(1L, 2L);
+        assertThat(before).extracting(Field::getFieldId).containsExactly(1L);
+        verify(fieldRepository, times(1)).findAll();
+    }
+
+    @Test
+    void changeAfterAMissedRemoteChangeReloadsTheCatalog() {
+        stubVersions(3L, 5L, 5L);
+        catalog.all();
+
+        catalog.deleted(1L);
+
+        assertThat(catalog.version()).isEqualTo(5L);
+        verify(fieldRepository, times(2)).findAll();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubVersions(Long first, Long... next) {
+        List<Long>[] rest = new List[next.length];
+        for (int i = 0; i < next.length; i++) {
+            rest[i] = List.of(next[i]);
+        }
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), ArgumentMatchers.<Object[]>any()))
+                .thenReturn(List.of(first), rest);
+    }
+
+    private static Field field(Long fieldId, String name) {
+        return Field.builder().fieldId(fieldId).name(name).build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.mini.soccer.service.field;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mini.soccer.dto.response.FieldResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FieldListingCacheTest {
+
+    private final IFieldService fieldService = mock(IFieldService.class);
+    private final FieldCatalog fieldCatalog = mock(FieldCatalog.class);
+    private final FieldListingCache cache = new FieldListingCache(fieldService, fieldCatalog, new ObjectMapper());
+
+    @Test
+    void serializesEachPageOncePerCatalogVersion() {
+        Pageable firstPage = PageRequest.of(0, 10);
+        when(fieldService.getFields(firstPage)).thenReturn(
+                new PageImpl<>(List.of(FieldResponse.builder().fieldId(1L).name("Pitch A").build()), firstPage, 1),
+                new PageImpl<>(List.of(FieldResponse.builder().fieldId(1L).name("Pitch B").build()), firstPage, 1));
+        when(fieldCatalog.version()).thenReturn(1L, 1L, 2L);
+
+        byte[] first = cache.get(firstPage);
+        byte[] cached = cache.get(firstPage);
+        byte[] rebuilt = cache.get(firstPage);
+
+        assertThat(cached).isSameAs(first);
+        assertThat(new String(first, StandardCharsets.UTF_8)).contains("\"Pitch A\"", "\"message\":\"Retrieved fields\"");
+        assertThat(new String(rebuilt, StandardCharsets.UTF_8)).contains("\"Pitch B\"");
+        verify(fieldService, times(2)).getFields(firstPage);
+    }
+}
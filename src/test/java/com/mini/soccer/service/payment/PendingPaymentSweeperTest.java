@@ -0,0 +1,172 @@
+package com.mini.soccer.service.payment;
+
+import com.mini.soccer.config.BookingProperties;
+import com.mini.soccer.config.VnPayProperties;
+import com.mini.soccer.repository.projection.BookedSlot;
+import com.mini.soccer.service.booking.BookingSlotClaims;
+import com.mini.soccer.service.booking.BookingSlotIndex;
+import com.mini.soccer.service.booking.UserBookingVersions;
+import com.mini.soccer.service.dashboard.FieldDailyRollups;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class PendingPaymentSweeperTest {
+
+    private final LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(8).withMinute(0).withSecond(0).withNano(0);
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+    private final BookingSlotIndex bookingSlotIndex = mock(BookingSlotIndex.class);
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+    private PendingPaymentSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("""
+                create table bookings (
+                  booking_id bigint primary key,
+                  field_id bigint not null,
+                  start_time timestamp not null,
+                  end_time timestamp not null,
+                  status varchar(20) not null,
+                  hold_expires_at timestamp,
+                  cancellation_reason varchar(255),
+                  cancelled_at timestamp
+                )""");
+        jdbcTemplate.execute("""
+                create table payments (
+                  payment_id bigint primary key,
+                  booking_id bigint not null,
+                  status varchar(20) not null,
+                  payment_method varchar(20) not null,
+                  expires_at timestamp
+                )""");
+        jdbcTemplate.execute("""
+                create table booking_slots (
+                  field_id bigint not null,
+                  slot_start timestamp not null,
+                  booking_id bigint not null,
+                  primary key (field_id, slot_start)
+                )""");
+        transactionManager = new DataSourceTransactionManager(database);
+        VnPayProperties properties = new VnPayProperties();
+        properties.getSweeper().setChunkSize(2);
+        sweeper = new PendingPaymentSweeper(new NamedParameterJdbcTemplate(database), transactionManager,
+                new BookingSlotClaims(jdbcTemplate, new BookingProperties()), bookingSlotIndex,
+                mock(FieldDailyRollups.class), mock(UserBookingVersions.class), properties,
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void sweepsInChunksSkippingRowsLockedByAnotherNode() throws Exception {
+        insert(1L, "PENDING", now.minusMinutes(5), now.minusMinutes(5));
+        // Created before bookings.hold_expires_at existed.
+        insert(2L, "PENDING", null, now.minusMinutes(4));
+        // Paid through another channel before the sweep.
+        insert(3L, "CONFIRMED", null, now.minusMinutes(3));
+        insert(4L, "PENDING", now.minusMinutes(2), now.minusMinutes(2));
+        insert(5L, "PENDING", now.plusMinutes(10), now.plusMinutes(10));
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<Void> otherNode = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    jdbcTemplate.queryForList("select payment_id from payments where payment_id = 4 for update");
+                    locked.countDown();
+                    await(finish);
+                }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        sweeper.sweep();
+
+        assertThat(paymentStatus(1L)).isEqualTo("EXPIRED");
+        assertThat(paymentStatus(2L)).isEqualTo("EXPIRED");
+        assertThat(paymentStatus(3L)).isEqualTo("EXPIRED");
+        assertThat(paymentStatus(4L)).isEqualTo("PENDING");
+        assertThat(paymentStatus(5L)).isEqualTo("PENDING");
+        assertThat(bookingStatus(1L)).isEqualTo("CANCELLED");
+        assertThat(bookingStatus(2L)).isEqualTo("CANCELLED");
+        assertThat(bookingStatus(3L)).isEqualTo("CONFIRMED");
+        assertThat(claimedBookings()).containsExactly(3L, 4L, 5L);
+        verify(bookingSlotIndex).track(new BookedSlot(1L, 10L, slotStart(1L), slotStart(1L).plusHours(1)), false);
+        verify(bookingSlotIndex).track(new BookedSlot(2L, 10L, slotStart(2L), slotStart(2L).plusHours(1)), false);
+        verify(bookingSlotIndex, never()).track(new BookedSlot(3L, 10L, slotStart(3L), slotStart(3L).plusHours(1)), false);
+
+        finish.countDown();
+        otherNode.get(5, TimeUnit.SECONDS);
+        sweeper.sweep();
+
+        assertThat(paymentStatus(4L)).isEqualTo("EXPIRED");
+        assertThat(bookingStatus(4L)).isEqualTo("CANCELLED");
+        assertThat(paymentStatus(5L)).isEqualTo("PENDING");
+        assertThat(claimedBookings()).containsExactly(3L, 5L);
+    }
+
+    private void insert(long id, String bookingStatus, LocalDateTime holdExpiresAt, LocalDateTime paymentExpiresAt) {
+        LocalDateTime slotStart = slotStart(id);
+        jdbcTemplate.update("insert into bookings (booking_id, field_id, start_time, end_time, status, hold_expires_at)"
+                        + " values (?, 10, ?, ?, ?, ?)",
+                id, Timestamp.valueOf(slotStart), Timestamp.valueOf(slotStart.plusHours(1)), bookingStatus,
+                holdExpiresAt != null ? Timestamp.valueOf(holdExpiresAt) : null);
+        jdbcTemplate.update("insert into payments (payment_id, booking_id, status, payment_method, expires_at)"
+                        + " values (?, ?, 'PENDING', 'VNPAY', ?)",
+                id, id, Timestamp.valueOf(paymentExpiresAt));
+        jdbcTemplate.update("insert into booking_slots (field_id, slot_start, booking_id) values (10, ?, ?)",
+                Timestamp.valueOf(slotStart), id);
+    }
+
+    private LocalDateTime slotStart(long bookingId) {
+        return start.plusHours(bookingId);
+    }
+
+    private String paymentStatus(long paymentId) {
+        return jdbcTemplate.queryForObject("select status from payments where payment_id = ?", String.class, paymentId);
+    }
+
+    private String bookingStatus(long bookingId) {
+        return jdbcTemplate.queryForObject("select status from bookings where booking_id = ?", String.class, bookingId);
+    }
+
+    private List<Long> claimedBookings() {
+        return jdbcTemplate.queryForList("select booking_id from booking_slots order by booking_id", Long.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
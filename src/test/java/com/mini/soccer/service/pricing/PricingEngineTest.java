@@ -0,0 +1,99 @@
+package com.mini.soccer.service.pricing;
+
+import com.mini.soccer.config.BookingProperties;
+import com.mini.soccer.model.Field;
+import com.mini.soccer.model.Holiday;
+import com.mini.soccer.model.Money;
+import com.mini.soccer.model.PricingRule;
+import com.mini.soccer.repository.FieldRepository;
+import com.mini.soccer.repository.HolidayRepository;
+import com.mini.soccer.repository.PricingRuleRepository;
+import com.mini.soccer.service.field.FieldCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PricingEngineTest {
+
+    // A Wednesday.
+    private static final LocalDate WEEKDAY = LocalDate.of(2030, 1, 2);
+    private static final LocalDate SATURDAY = LocalDate.of(2030, 1, 5);
+    private static final LocalDate HOLIDAY = LocalDate.of(2030, 1, 1);
+    private static final int WEEKDAYS_MASK = 0b0011111;
+    private static final int WEEKEND_MASK = 0b1100000;
+
+    private PricingEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        Field field = Field.builder().fieldId(1L).pricePerHour(Money.of(new BigDecimal("200000.00"))).build();
+        FieldRepository fieldRepository = mock(FieldRepository.class);
+        when(fieldRepository.findAll()).thenReturn(List.of(field));
+        PricingRuleRepository ruleRepository = mock(PricingRuleRepository.class);
+        when(ruleRepository.findAllWithField()).thenReturn(List.of(
+                rule(1L, null, WEEKDAYS_MASK, false, LocalTime.of(17, 0), LocalTime.of(21, 0), "300000", 0),
+                rule(2L, null, WEEKEND_MASK, true, LocalTime.of(6, 0), LocalTime.MIDNIGHT, "350000", 0),
+                rule(3L, field, WEEKDAYS_MASK, false, LocalTime.of(20, 0), LocalTime.of(21, 0), "320000", 1)
+        ));
+        HolidayRepository holidayRepository = mock(HolidayRepository.class);
+        when(holidayRepository.findAll()).thenReturn(List.of(new Holiday(HOLIDAY, "New Year")));
+        FieldCatalog fieldCatalog = new FieldCatalog(fieldRepository, mock(JdbcTemplate.class));
+        engine = new PricingEngine(fieldCatalog, ruleRepository, holidayRepository, new BookingProperties());
+    }
+
+    @Test
+    void quoteSpanningOffPeakAndPeakChargesEachSlotAtItsRate() {
+        PriceQuote quote = engine.quote(1L, WEEKDAY.atTime(16, 30), WEEKDAY.atTime(18, 0));
+
+        // 0.5h at 200k + 1h at 300k
+        assertThat(quote.totalAmount().toBigDecimal()).isEqualByComparingTo("400000");
+        assertThat(quote.segments()).extracting(PriceQuote.Segment::pricePerHourMinor)
+                .containsExactly(20_000_000L, 30_000_000L);
+        assertThat(quote.segments().get(1).startTime()).isEqualTo(WEEKDAY.atTime(17, 0));
+    }
+
+    @Test
+    void higherPriorityFieldRuleOverridesGlobalRule() {
+        PriceQuote quote = engine.quote(1L, WEEKDAY.atTime(20, 0), WEEKDAY.atTime(21, 0));
+
+        assertThat(quote.totalAmount().toBigDecimal()).isEqualByComparingTo("320000");
+        assertThat(quote.pricePerHour().toBigDecimal()).isEqualByComparingTo("320000");
+    }
+
+    @Test
+    void weekendAndHolidayRatesApplyAcrossMidnight() {
+        PriceQuote weekend = engine.quote(1L, SATURDAY.atTime(23, 0), SATURDAY.plusDays(1).atTime(1, 0));
+        PriceQuote holiday = engine.quote(1L, HOLIDAY.atTime(18, 0), HOLIDAY.atTime(19, 0));
+
+        // 23:00-24:00 weekend rate, 00:00-01:00 Sunday before 06:00 falls back to base
+        assertThat(weekend.totalAmount().toBigDecimal()).isEqualByComparingTo("550000");
+        assertThat(weekend.pricePerHour().toBigDecimal()).isEqualByComparingTo("275000");
+        // Holidays ignore the weekday peak rule
+        assertThat(holiday.totalAmount().toBigDecimal()).isEqualByComparingTo("350000");
+    }
+
+    private static PricingRule rule(Long id, Field field, int daysMask, boolean holidays,
+                                    LocalTime start, LocalTime end, String price, int priority) {
+        return PricingRule.builder()
+                .pricingRuleId(id)
+                .field(field)
+                .name("Rule " + id)
+                .daysMask(daysMask)
+                .holidays(holidays)
+                .startTime(start)
+                .endTime(end)
+                .pricePerHour(Money.of(new BigDecimal(price)))
+                .priority(priority)
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.mini.soccer.service.user;
+
+import com.mini.soccer.enums.UserRole;
+import com.mini.soccer.model.User;
+import com.mini.soccer.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserDirectoryTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserDirectory directory = new UserDirectory(userRepository, mock(JdbcTemplate.class),
+            meterRegistry, 2, Duration.ofMinutes(5));
+
+    @Test
+    void lookupsByIdAndPhoneShareOneBoundedEntry() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L, "0900000001")));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user(2L, "0900000002")));
+        when(userRepository.findById(3L)).thenReturn(Optional.of(user(3L, "0900000003")));
+
+        directory.findById(1L);
+        assertThat(directory.findByPhoneNumber("0900000001")).map(User::getUserId).contains(1L);
+        directory.findById(2L);
+        directory.findById(3L);
+
+        assertThat(directory.size()).isEqualTo(2);
+        assertThat(meterRegistry.counter("user.directory.hits").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("user.directory.evictions").count()).isEqualTo(1);
+        directory.findByPhoneNumber("0900000001");
+        verify(userRepository, times(1)).findByPhoneNumber("0900000001");
+    }
+
+    @Test
+    void evictedUserIsReadAgain() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L, "0900000001")));
+        directory.findById(1L);
+
+        directory.evict(1L);
+        directory.findById(1L);
+
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void phoneFilterNeverRejectsARegisteredNumber() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.add("09" + (10000000 + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 1000; i++) {
+            assertThat(filter.mightContain("09" + (10000000 + i))).isTrue();
+            if (filter.mightContain("08" + (10000000 + i))) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(50);
+    }
+
+    private static User user(Long userId, String phoneNumber) {
+        return User.builder()
+                .userId(userId)
+                .fullName("User " + userId)
+                .phoneNumber(phoneNumber)
+                .role(UserRole.USER)
+                .build();
+    }
+}
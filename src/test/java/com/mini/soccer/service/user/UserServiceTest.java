@@ -0,0 +1,56 @@
+package com.mini.soccer.service.user;
+
+import com.mini.soccer.dto.request.RegisterRequest;
+import com.mini.soccer.repository.UserRepository;
+import com.mini.soccer.security.jwt.TokenVersions;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserDirectory userDirectory = mock(UserDirectory.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final UserService userService = new UserService(userRepository, userDirectory, mock(TokenVersions.class),
+            passwordEncoder, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+    @Test
+    void phoneRegisteredSinceTheFilterRefreshIsAConflict() {
+        when(userDirectory.mayBeRegistered("0900000001")).thenReturn(false);
+        when(userRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(userRepository.existsByPhoneNumber("0900000001")).thenReturn(true);
+
+        assertThatThrownBy(() -> userService.register(request("0900000001")))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    void otherIntegrityViolationsAreNotReportedAsATakenPhone() {
+        when(userDirectory.mayBeRegistered("0900000002")).thenReturn(false);
+        when(userRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("too long"));
+        when(userRepository.existsByPhoneNumber("0900000002")).thenReturn(false);
+
+        assertThatThrownBy(() -> userService.register(request("0900000002")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private static RegisterRequest request(String phoneNumber) {
+        RegisterRequest request = new RegisterRequest();
+        request.setFullName("Test User");
+        request.setPhoneNumber(phoneNumber);
+        request.setPassword("secret1");
+        return request;
+    }
+}
@@ -0,0 +1,50 @@
+package com.mini.soccer.service.waitlist;
+
+import com.mini.soccer.repository.WaitlistEntryRepository;
+import com.mini.soccer.repository.projection.WaitingEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WaitlistIndexTest {
+
+    private final LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(8).withMinute(0).withSecond(0).withNano(0);
+    private final LocalDateTime joinedAt = LocalDateTime.now().minusHours(1);
+    private WaitlistIndex index;
+
+    @BeforeEach
+    void setUp() {
+        WaitlistEntryRepository repository = mock(WaitlistEntryRepository.class);
+        when(repository.findWaitingEntries(any())).thenReturn(List.of(
+                new WaitingEntry(1L, 10L, base, base.plusHours(2), joinedAt.plusMinutes(5)),
+                new WaitingEntry(2L, 10L, base.plusHours(1), base.plusHours(2), joinedAt),
+                new WaitingEntry(3L, 10L, base.plusHours(1), base.plusHours(3), joinedAt),
+                new WaitingEntry(4L, 11L, base, base.plusHours(1), joinedAt)
+        ));
+        index = new WaitlistIndex(repository);
+    }
+
+    @Test
+    void matchesEntriesInsideReleasedRangeFirstComeFirstServed() {
+        List<WaitingEntry> matches = index.match(10L, base, base.plusHours(2));
+
+        assertThat(matches).extracting(WaitingEntry::waitlistEntryId).containsExactly(2L, 1L);
+        assertThat(index.match(10L, base.plusHours(2), base.plusHours(3))).isEmpty();
+    }
+
+    @Test
+    void removedEntriesAreNoLongerMatched() {
+        WaitingEntry entry = index.match(11L, base, base.plusHours(1)).get(0);
+
+        index.remove(entry);
+
+        assertThat(index.match(11L, base, base.plusHours(1))).isEmpty();
+    }
+}
@@ -0,0 +1,126 @@
+package com.mini.soccer.service.waitlist;
+
+import com.mini.soccer.config.BookingProperties;
+import com.mini.soccer.dto.response.BookingResponse;
+import com.mini.soccer.enums.WaitlistStatus;
+import com.mini.soccer.model.User;
+import com.mini.soccer.model.WaitlistEntry;
+import com.mini.soccer.repository.WaitlistEntryRepository;
+import com.mini.soccer.repository.projection.BookedSlot;
+import com.mini.soccer.repository.projection.WaitingEntry;
+import com.mini.soccer.service.booking.BookingSlotIndex;
+import com.mini.soccer.service.booking.IBookingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WaitlistMatcherTest {
+
+    private final LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(8).withMinute(0).withSecond(0).withNano(0);
+    private final LocalDateTime joinedAt = LocalDateTime.now().minusHours(1);
+    private final WaitlistEntryRepository repository = mock(WaitlistEntryRepository.class);
+    private final IBookingService bookingService = mock(IBookingService.class);
+    private final Map<Long, WaitlistEntry> entries = new HashMap<>();
+    // Start times currently held, standing in for booking_slots so a taken slot cannot be held twice.
+    private final Set<LocalDateTime> heldStarts = new HashSet<>();
+    private final AtomicLong nextBookingId = new AtomicLong(500);
+    private WaitlistIndex index;
+    private WaitlistMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findWaitingEntries(any())).thenReturn(List.of(
+                new WaitingEntry(1L, 10L, base, base.plusHours(1), joinedAt.plusMinutes(5)),
+                new WaitingEntry(2L, 10L, base, base.plusHours(1), joinedAt),
+                new WaitingEntry(3L, 10L, base.plusHours(1), base.plusHours(2), joinedAt.plusMinutes(1))
+        ));
+        for (long id = 1; id <= 3; id++) {
+            entries.put(id, WaitlistEntry.builder()
+                    .waitlistEntryId(id)
+                    .user(User.builder().userId(100 + id).build())
+                    .build());
+        }
+        when(repository.findByIdForUpdate(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(entries.get(invocation.<Long>getArgument(0))));
+        when(bookingService.holdSlotForWaitlist(anyLong(), eq(10L), any(), any(), any()))
+                .thenAnswer(invocation -> heldStarts.add(invocation.getArgument(2))
+                        ? Optional.of(BookingResponse.builder().bookingId(nextBookingId.getAndIncrement()).build())
+                        : Optional.empty());
+
+        index = new WaitlistIndex(repository);
+        matcher = new WaitlistMatcher(index, repository, bookingService, mock(BookingSlotIndex.class),
+                new BookingProperties(), mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void offersReleasedSlotFirstComeFirstServed() {
+        matcher.offer(released(base, base.plusHours(2)));
+
+        InOrder order = inOrder(bookingService);
+        order.verify(bookingService).holdSlotForWaitlist(eq(102L), eq(10L), eq(base), eq(base.plusHours(1)), any());
+        order.verify(bookingService).holdSlotForWaitlist(eq(103L), eq(10L), any(), any(), any());
+        order.verify(bookingService).holdSlotForWaitlist(eq(101L), eq(10L), eq(base), eq(base.plusHours(1)), any());
+        assertThat(entries.get(2L).getStatus()).isEqualTo(WaitlistStatus.OFFERED);
+        assertThat(entries.get(2L).getOfferedBookingId()).isEqualTo(500L);
+        assertThat(entries.get(2L).getOfferExpiresAt()).isAfter(LocalDateTime.now());
+        assertThat(entries.get(3L).getStatus()).isEqualTo(WaitlistStatus.OFFERED);
+        assertThat(entries.get(1L).getStatus()).isEqualTo(WaitlistStatus.WAITING);
+        assertThat(index.match(10L, base, base.plusHours(2)))
+                .extracting(WaitingEntry::waitlistEntryId).containsExactly(1L);
+    }
+
+    @Test
+    void skipsEntriesNoLongerWaitingOnceLocked() {
+        entries.get(2L).setStatus(WaitlistStatus.WITHDRAWN);
+        entries.remove(3L);
+
+        matcher.offer(released(base, base.plusHours(2)));
+
+        verify(bookingService, never()).holdSlotForWaitlist(eq(102L), anyLong(), any(), any(), any());
+        verify(bookingService, never()).holdSlotForWaitlist(eq(103L), anyLong(), any(), any(), any());
+        assertThat(entries.get(1L).getStatus()).isEqualTo(WaitlistStatus.OFFERED);
+        assertThat(entries.get(2L).getStatus()).isEqualTo(WaitlistStatus.WITHDRAWN);
+        assertThat(index.match(10L, base, base.plusHours(2))).isEmpty();
+    }
+
+    @Test
+    void offersSlotToNextEntryWhenOfferLapses() {
+        BookedSlot slot = released(base, base.plusHours(1));
+        matcher.offer(slot);
+        assertThat(entries.get(2L).getStatus()).isEqualTo(WaitlistStatus.OFFERED);
+        assertThat(entries.get(1L).getStatus()).isEqualTo(WaitlistStatus.WAITING);
+
+        // The hold lapses and the slot is released again.
+        heldStarts.remove(base);
+        matcher.offer(slot);
+
+        verify(bookingService).holdSlotForWaitlist(eq(102L), eq(10L), any(), any(), any());
+        assertThat(entries.get(1L).getStatus()).isEqualTo(WaitlistStatus.OFFERED);
+        assertThat(entries.get(1L).getOfferedBookingId()).isEqualTo(501L);
+        assertThat(index.match(10L, base, base.plusHours(1))).isEmpty();
+    }
+
+    private BookedSlot released(LocalDateTime start, LocalDateTime end) {
+        return new BookedSlot(900L, 10L, start, end);
+    }
+}